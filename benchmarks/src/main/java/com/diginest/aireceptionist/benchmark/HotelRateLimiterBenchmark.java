@@ -0,0 +1,48 @@
+package com.diginest.aireceptionist.benchmark;
+
+import com.diginest.aireceptionist.config.RateLimitProperties;
+import com.diginest.aireceptionist.service.HotelRateLimiter;
+import com.diginest.aireceptionist.service.HotelTrafficTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the hotel rate limiter on the admit path, for one hot hotel shared by all
+ * threads (CAS contention) and for requests spread over many hotels.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class HotelRateLimiterBenchmark {
+
+    private static final int HOTELS = 1_000;
+
+    private HotelRateLimiter limiter;
+    private RateLimitProperties.Group group;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        limiter = new HotelRateLimiter(new HotelTrafficTracker(new SimpleMeterRegistry(), 20, 300, 10));
+        group = new RateLimitProperties.Group();
+        group.setName("availability");
+        group.setCapacity(Integer.MAX_VALUE / 2);
+        group.setRefillPerSecond(1_000_000_000);
+    }
+
+    @Benchmark
+    public long singleHotel() {
+        return limiter.tryAcquire(group, 1L);
+    }
+
+    @Benchmark
+    public long manyHotels() {
+        return limiter.tryAcquire(group, (long) ThreadLocalRandom.current().nextInt(HOTELS));
+    }
+}
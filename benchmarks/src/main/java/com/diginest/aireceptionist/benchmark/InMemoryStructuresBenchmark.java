@@ -0,0 +1,88 @@
+package com.diginest.aireceptionist.benchmark;
+
+import com.diginest.aireceptionist.dto.AvailabilityCheckRequest;
+import com.diginest.aireceptionist.dto.AvailabilityResponse;
+import com.diginest.aireceptionist.service.AvailabilityCoalescer;
+import com.diginest.aireceptionist.service.BookingService;
+import com.diginest.aireceptionist.service.HotelBookingVersions;
+import com.diginest.aireceptionist.service.HotelTrafficTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bookkeeping the app adds around each request in memory: the availability single-flight map
+ * (with the query itself stubbed out), the per-hotel booking version lookup, and the per-hotel
+ * traffic window and timers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class InMemoryStructuresBenchmark {
+
+    private static final int HOTELS = 1_000;
+
+    private AvailabilityCoalescer coalescer;
+    private HotelBookingVersions versions;
+    private HotelTrafficTracker trafficTracker;
+    private AvailabilityCheckRequest[] requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        versions = new HotelBookingVersions();
+        coalescer = new AvailabilityCoalescer(new StubBookingService(registry), versions, registry);
+        trafficTracker = new HotelTrafficTracker(registry, 20, 300, 10);
+
+        LocalDate checkIn = LocalDate.now().plusDays(30);
+        requests = new AvailabilityCheckRequest[HOTELS];
+        for (int i = 0; i < HOTELS; i++) {
+            AvailabilityCheckRequest request = new AvailabilityCheckRequest();
+            request.setHotelId((long) i);
+            request.setRoomNumber("10" + (i % 10));
+            request.setCheckInDate(checkIn);
+            request.setCheckOutDate(checkIn.plusDays(3));
+            requests[i] = request;
+        }
+    }
+
+    @Benchmark
+    public AvailabilityResponse coalescedAvailability() {
+        return coalescer.checkAvailability(requests[ThreadLocalRandom.current().nextInt(HOTELS)]);
+    }
+
+    @Benchmark
+    public long bookingVersion() {
+        return versions.currentVersion((long) ThreadLocalRandom.current().nextInt(HOTELS));
+    }
+
+    @Benchmark
+    public void trafficRecord() {
+        trafficTracker.record((long) ThreadLocalRandom.current().nextInt(HOTELS), "availability", 1_500_000L);
+    }
+
+    private static final class StubBookingService extends BookingService {
+
+        StubBookingService(MeterRegistry registry) {
+            super(null, null, null, null, null, registry);
+        }
+
+        @Override
+        public AvailabilityResponse checkAvailability(AvailabilityCheckRequest request) {
+            return AvailabilityResponse.builder()
+                    .available(true)
+                    .message("Room is available")
+                    .roomNumber(request.getRoomNumber())
+                    .hotelId(request.getHotelId())
+                    .build();
+        }
+    }
+}
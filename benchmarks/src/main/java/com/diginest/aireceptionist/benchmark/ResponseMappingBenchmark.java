@@ -0,0 +1,88 @@
+package com.diginest.aireceptionist.benchmark;
+
+import com.diginest.aireceptionist.dto.BookingResponse;
+import com.diginest.aireceptionist.dto.UsageResponse;
+import com.diginest.aireceptionist.entity.Booking;
+import com.diginest.aireceptionist.entity.UsageRecord;
+import com.diginest.aireceptionist.repository.BookingRepository;
+import com.diginest.aireceptionist.repository.UsageRecordRepository;
+import com.diginest.aireceptionist.service.BookingService;
+import com.diginest.aireceptionist.service.UsageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping done by the services on every booking and usage response. The mappers are
+ * private, so they are invoked through method handles on services built without repositories.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    private BookingService bookingService;
+    private UsageService usageService;
+    private MethodHandle mapBooking;
+    private MethodHandle mapUsage;
+    private Booking booking;
+    private UsageRecord usageRecord;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        bookingService = new BookingService(null, null, null, null, null, new SimpleMeterRegistry());
+        usageService = new UsageService(null, null, new SimpleMeterRegistry());
+        mapBooking = MethodHandles.privateLookupIn(BookingService.class, MethodHandles.lookup())
+                .findVirtual(BookingService.class, "mapToResponse",
+                        MethodType.methodType(BookingResponse.class, BookingRepository.BookingView.class));
+        mapUsage = MethodHandles.privateLookupIn(UsageService.class, MethodHandles.lookup())
+                .findVirtual(UsageService.class, "mapToResponse",
+                        MethodType.methodType(UsageResponse.class, UsageRecordRepository.UsageRecordView.class));
+
+        LocalDateTime now = LocalDateTime.of(2024, 6, 1, 12, 0);
+        booking = new Booking();
+        booking.setId(1L);
+        booking.setHotelId(42L);
+        booking.setGuestName("Guest 1");
+        booking.setGuestEmail("guest1@example.com");
+        booking.setGuestPhone("+15550000001");
+        booking.setCheckInDate(LocalDate.of(2024, 7, 1));
+        booking.setCheckOutDate(LocalDate.of(2024, 7, 4));
+        booking.setRoomNumber("101");
+        booking.setTotalAmount(new BigDecimal("450.00"));
+        booking.setConfirmedAt(now);
+        booking.setCreatedAt(now);
+        booking.setUpdatedAt(now);
+
+        usageRecord = new UsageRecord();
+        usageRecord.setId(1L);
+        usageRecord.setHotelId(42L);
+        usageRecord.setSessionId("call-session-1");
+        usageRecord.setCallStartTime(now);
+        usageRecord.setCallEndTime(now.plusMinutes(3));
+        usageRecord.setDurationSeconds(180L);
+        usageRecord.setInputTokens(1_200);
+        usageRecord.setOutputTokens(800);
+        usageRecord.setTotalTokens(2_000);
+    }
+
+    @Benchmark
+    public BookingResponse bookingResponse() throws Throwable {
+        return (BookingResponse) mapBooking.invokeExact(bookingService, (BookingRepository.BookingView) booking);
+    }
+
+    @Benchmark
+    public UsageResponse usageResponse() throws Throwable {
+        return (UsageResponse) mapUsage.invokeExact(usageService, (UsageRecordRepository.UsageRecordView) usageRecord);
+    }
+}
@@ -0,0 +1,127 @@
+package com.diginest.aireceptionist.benchmark;
+
+import com.diginest.aireceptionist.dto.AvailabilityResponse;
+import com.diginest.aireceptionist.dto.BookingResponse;
+import com.diginest.aireceptionist.dto.UsageResponse;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON vs CBOR encode/decode cost for the DTOs the voice gateway exchanges, using mappers built
+ * the same way as the app's message converters. Payload sizes are printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationFormatBenchmark {
+
+    @Param({"json", "cbor"})
+    private String format;
+
+    @Param({"availability", "usage", "booking", "bookingList"})
+    private String payload;
+
+    private ObjectMapper mapper;
+    private Object value;
+    private JavaType type;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("cbor".equals(format)) {
+            builder.factory(new CBORFactory());
+        }
+        mapper = builder.build();
+
+        value = switch (payload) {
+            case "availability" -> availability();
+            case "usage" -> usage();
+            case "booking" -> booking(1L);
+            case "bookingList" -> bookingList(50);
+            default -> throw new IllegalArgumentException("Unknown payload: " + payload);
+        };
+        type = "bookingList".equals(payload)
+                ? mapper.getTypeFactory().constructCollectionType(List.class, BookingResponse.class)
+                : mapper.constructType(value.getClass());
+        encoded = mapper.writeValueAsBytes(value);
+
+        System.out.printf("%n%s/%s payload: %d bytes%n", payload, format, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return mapper.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public Object deserialize() throws Exception {
+        return mapper.readValue(encoded, type);
+    }
+
+    private static AvailabilityResponse availability() {
+        return AvailabilityResponse.builder()
+                .available(true)
+                .message("Room is available for the selected dates")
+                .roomNumber("101")
+                .hotelId(1L)
+                .build();
+    }
+
+    private static UsageResponse usage() {
+        LocalDateTime start = LocalDateTime.of(2024, 3, 1, 10, 15, 30);
+        return UsageResponse.builder()
+                .id(42L)
+                .hotelId(1L)
+                .sessionId("call-7f3a9c2e-51b4-4d0e-9a61-3c8f2b7d1e90")
+                .callStartTime(start)
+                .callEndTime(start.plusMinutes(4))
+                .durationSeconds(240L)
+                .inputTokens(1830)
+                .outputTokens(920)
+                .totalTokens(2750)
+                .bookingAttempts(1)
+                .status("COMPLETED")
+                .build();
+    }
+
+    private static BookingResponse booking(Long id) {
+        LocalDateTime created = LocalDateTime.of(2024, 3, 1, 10, 15, 30);
+        return BookingResponse.builder()
+                .id(id)
+                .hotelId(1L)
+                .guestName("Guest " + id)
+                .guestEmail("guest" + id + "@example.com")
+                .guestPhone("+1-555-0100")
+                .checkInDate(LocalDate.of(2024, 3, 10))
+                .checkOutDate(LocalDate.of(2024, 3, 13))
+                .roomNumber(Long.toString(100 + id % 200))
+                .totalAmount(new BigDecimal("389.97"))
+                .status("CONFIRMED")
+                .confirmedAt(created)
+                .createdAt(created)
+                .updatedAt(created)
+                .build();
+    }
+
+    private static List<BookingResponse> bookingList(int size) {
+        List<BookingResponse> bookings = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            bookings.add(booking(id));
+        }
+        return bookings;
+    }
+}
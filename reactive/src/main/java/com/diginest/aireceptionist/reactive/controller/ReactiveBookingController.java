@@ -0,0 +1,25 @@
+package com.diginest.aireceptionist.reactive.controller;
+
+import com.diginest.aireceptionist.dto.AvailabilityCheckRequest;
+import com.diginest.aireceptionist.dto.AvailabilityResponse;
+import com.diginest.aireceptionist.reactive.service.ReactiveBookingService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/bookings")
+@RequiredArgsConstructor
+public class ReactiveBookingController {
+
+    private final ReactiveBookingService bookingService;
+
+    @PostMapping("/check-availability")
+    public Mono<ResponseEntity<AvailabilityResponse>> checkAvailability(
+            @Valid @RequestBody AvailabilityCheckRequest request) {
+        return bookingService.checkAvailability(request)
+                .map(ResponseEntity::ok);
+    }
+}
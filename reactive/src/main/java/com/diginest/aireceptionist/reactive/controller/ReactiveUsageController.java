@@ -0,0 +1,27 @@
+package com.diginest.aireceptionist.reactive.controller;
+
+import com.diginest.aireceptionist.dto.UsageResponse;
+import com.diginest.aireceptionist.dto.UsageUpdateRequest;
+import com.diginest.aireceptionist.reactive.service.ReactiveUsageService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/usage")
+@RequiredArgsConstructor
+public class ReactiveUsageController {
+
+    private final ReactiveUsageService usageService;
+
+    @PostMapping("/update")
+    public Mono<ResponseEntity<UsageResponse>> updateUsage(@Valid @RequestBody UsageUpdateRequest request) {
+        return usageService.updateTokenUsage(
+                        request.getSessionId(),
+                        request.getInputTokens(),
+                        request.getOutputTokens())
+                .map(ResponseEntity::ok);
+    }
+}
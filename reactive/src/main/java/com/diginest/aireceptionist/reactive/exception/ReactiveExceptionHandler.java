@@ -0,0 +1,75 @@
+package com.diginest.aireceptionist.reactive.exception;
+
+import com.diginest.aireceptionist.exception.BookingValidationException;
+import com.diginest.aireceptionist.exception.GlobalExceptionHandler.ErrorResponse;
+import com.diginest.aireceptionist.exception.ResourceNotFoundException;
+import com.diginest.aireceptionist.exception.RoomUnavailableException;
+import com.diginest.aireceptionist.exception.UsageLimitExceededException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Mirrors {@code GlobalExceptionHandler} so both stacks answer with the same status and body.
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException ex) {
+        return error(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage());
+    }
+
+    @ExceptionHandler(UsageLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleUsageLimitExceededException(UsageLimitExceededException ex) {
+        return error(HttpStatus.PAYMENT_REQUIRED, "Usage Limit Exceeded", ex.getMessage());
+    }
+
+    @ExceptionHandler(BookingValidationException.class)
+    public ResponseEntity<ErrorResponse> handleBookingValidationException(BookingValidationException ex) {
+        return error(HttpStatus.BAD_REQUEST, "Validation Error", ex.getMessage());
+    }
+
+    @ExceptionHandler(RoomUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleRoomUnavailableException(RoomUnavailableException ex) {
+        return error(HttpStatus.CONFLICT, "Room Unavailable", ex.getMessage());
+    }
+
+    @ExceptionHandler({IllegalArgumentException.class, IllegalStateException.class})
+    public ResponseEntity<ErrorResponse> handleIllegalRequestException(RuntimeException ex) {
+        return error(HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage());
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationExceptions(WebExchangeBindException ex) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getBindingResult().getAllErrors().forEach(error -> {
+            String fieldName = ((FieldError) error).getField();
+            String errorMessage = error.getDefaultMessage();
+            errors.put(fieldName, errorMessage);
+        });
+        return error(HttpStatus.BAD_REQUEST, "Validation Failed", errors.toString());
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGlobalException(Exception ex) {
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", "An unexpected error occurred");
+    }
+
+    private ResponseEntity<ErrorResponse> error(HttpStatus status, String error, String message) {
+        ErrorResponse body = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(error)
+                .message(message)
+                .build();
+        return new ResponseEntity<>(body, status);
+    }
+}
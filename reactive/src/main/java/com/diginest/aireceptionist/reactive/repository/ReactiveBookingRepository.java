@@ -0,0 +1,30 @@
+package com.diginest.aireceptionist.reactive.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveBookingRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Boolean> existsOverlappingBooking(Long hotelId, String roomNumber,
+                                                  LocalDate checkIn, LocalDate checkOut) {
+        return databaseClient.sql("SELECT COUNT(*) FROM bookings WHERE hotel_id = :hotelId " +
+                        "AND room_number = :roomNumber " +
+                        "AND status NOT IN ('CANCELLED') " +
+                        "AND (:checkIn < check_out_date AND :checkOut > check_in_date)")
+                .bind("hotelId", hotelId)
+                .bind("roomNumber", roomNumber)
+                .bind("checkIn", checkIn)
+                .bind("checkOut", checkOut)
+                .map((row, metadata) -> row.get(0, Long.class))
+                .one()
+                .map(count -> count > 0);
+    }
+}
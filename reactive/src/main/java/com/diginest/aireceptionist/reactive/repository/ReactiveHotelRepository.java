@@ -0,0 +1,28 @@
+package com.diginest.aireceptionist.reactive.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveHotelRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql("SELECT COUNT(*) FROM hotels WHERE id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> row.get(0, Long.class))
+                .one()
+                .map(count -> count > 0);
+    }
+
+    public Mono<Integer> findMonthlyTokenLimitById(Long id) {
+        return databaseClient.sql("SELECT monthly_token_limit FROM hotels WHERE id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> row.get("monthly_token_limit", Integer.class))
+                .one();
+    }
+}
@@ -0,0 +1,83 @@
+package com.diginest.aireceptionist.reactive.repository;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveUsageRecordRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<UsageRecordRow> findBySessionId(String sessionId) {
+        return databaseClient.sql("SELECT id, hotel_id, session_id, call_start_time, call_end_time, " +
+                        "duration_seconds, input_tokens, output_tokens, total_tokens, booking_attempts, status " +
+                        "FROM usage_records WHERE session_id = :sessionId")
+                .bind("sessionId", sessionId)
+                .map(this::mapRow)
+                .one();
+    }
+
+    /**
+     * Locks the session's usage row and its hotel's row until commit and returns the hotel id, serializing
+     * quota checks for the hotel. Read the record after this, not before.
+     */
+    public Mono<Long> lockBySessionId(String sessionId) {
+        return databaseClient.sql("SELECT u.hotel_id FROM usage_records u JOIN hotels h ON h.id = u.hotel_id " +
+                        "WHERE u.session_id = :sessionId FOR UPDATE")
+                .bind("sessionId", sessionId)
+                .map((row, metadata) -> row.get("hotel_id", Long.class))
+                .one();
+    }
+
+    public Mono<Integer> sumTotalTokensByHotelIdAndDateAfter(Long hotelId, LocalDateTime startOfMonth) {
+        return databaseClient.sql("SELECT COALESCE(SUM(total_tokens), 0) FROM usage_records " +
+                        "WHERE hotel_id = :hotelId " +
+                        "AND call_start_time >= :startOfMonth")
+                .bind("hotelId", hotelId)
+                .bind("startOfMonth", startOfMonth)
+                .map((row, metadata) -> row.get(0, Long.class))
+                .one()
+                .map(Long::intValue);
+    }
+
+    /**
+     * Bumps the version as {@code UsageRecordRepository.addTokensWithinLimit} does, so servlet-side entity
+     * copies loaded earlier fail their optimistic check instead of overwriting the counters.
+     */
+    public Mono<Long> addTokens(Long id, int inputTokens, int outputTokens) {
+        return databaseClient.sql("UPDATE usage_records SET input_tokens = input_tokens + :inputTokens, " +
+                        "output_tokens = output_tokens + :outputTokens, " +
+                        "total_tokens = total_tokens + :totalTokens, " +
+                        "version = version + 1, updated_at = :updatedAt " +
+                        "WHERE id = :id")
+                .bind("inputTokens", inputTokens)
+                .bind("outputTokens", outputTokens)
+                .bind("totalTokens", inputTokens + outputTokens)
+                .bind("updatedAt", LocalDateTime.now())
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private UsageRecordRow mapRow(Readable row) {
+        return new UsageRecordRow(
+                row.get("id", Long.class),
+                row.get("hotel_id", Long.class),
+                row.get("session_id", String.class),
+                row.get("call_start_time", LocalDateTime.class),
+                row.get("call_end_time", LocalDateTime.class),
+                row.get("duration_seconds", Long.class),
+                row.get("input_tokens", Integer.class),
+                row.get("output_tokens", Integer.class),
+                row.get("total_tokens", Integer.class),
+                row.get("booking_attempts", Integer.class),
+                row.get("status", String.class)
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.diginest.aireceptionist.reactive.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveUserRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<UserRow> findByEmail(String email) {
+        return databaseClient.sql("SELECT email, role, is_active FROM users WHERE email = :email")
+                .bind("email", email)
+                .map((row, metadata) -> new UserRow(
+                        row.get("email", String.class),
+                        row.get("role", String.class),
+                        row.get("is_active", Boolean.class)))
+                .one();
+    }
+}
@@ -0,0 +1,18 @@
+package com.diginest.aireceptionist.reactive.repository;
+
+import java.time.LocalDateTime;
+
+public record UsageRecordRow(
+        Long id,
+        Long hotelId,
+        String sessionId,
+        LocalDateTime callStartTime,
+        LocalDateTime callEndTime,
+        Long durationSeconds,
+        Integer inputTokens,
+        Integer outputTokens,
+        Integer totalTokens,
+        Integer bookingAttempts,
+        String status
+) {
+}
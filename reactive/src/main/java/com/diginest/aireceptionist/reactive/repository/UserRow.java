@@ -0,0 +1,4 @@
+package com.diginest.aireceptionist.reactive.repository;
+
+public record UserRow(String email, String role, Boolean isActive) {
+}
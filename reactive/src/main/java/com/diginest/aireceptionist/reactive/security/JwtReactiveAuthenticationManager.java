@@ -0,0 +1,47 @@
+package com.diginest.aireceptionist.reactive.security;
+
+import com.diginest.aireceptionist.reactive.repository.ReactiveUserRepository;
+import com.diginest.aireceptionist.security.jwt.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+
+/**
+ * Same checks as {@code JwtAuthenticationFilter}: a valid token whose subject is an active user.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtReactiveAuthenticationManager implements ReactiveAuthenticationManager {
+
+    private final JwtTokenProvider tokenProvider;
+    private final ReactiveUserRepository userRepository;
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        String jwt = (String) authentication.getCredentials();
+        if (!tokenProvider.validateToken(jwt)) {
+            return Mono.error(new BadCredentialsException("Invalid JWT token"));
+        }
+
+        String username = tokenProvider.getUsernameFromToken(jwt);
+        return userRepository.findByEmail(username)
+                .filter(user -> Boolean.TRUE.equals(user.isActive()))
+                .switchIfEmpty(Mono.error(() -> new BadCredentialsException("User not found or inactive")))
+                .map(user -> {
+                    UserDetails userDetails = User.withUsername(user.email())
+                            .password("")
+                            .authorities(Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.role())))
+                            .build();
+                    return new UsernamePasswordAuthenticationToken(userDetails, jwt, userDetails.getAuthorities());
+                });
+    }
+}
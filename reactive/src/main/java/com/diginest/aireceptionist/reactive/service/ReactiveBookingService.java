@@ -0,0 +1,56 @@
+package com.diginest.aireceptionist.reactive.service;
+
+import com.diginest.aireceptionist.dto.AvailabilityCheckRequest;
+import com.diginest.aireceptionist.dto.AvailabilityResponse;
+import com.diginest.aireceptionist.exception.BookingValidationException;
+import com.diginest.aireceptionist.exception.ResourceNotFoundException;
+import com.diginest.aireceptionist.reactive.repository.ReactiveBookingRepository;
+import com.diginest.aireceptionist.reactive.repository.ReactiveHotelRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Non-blocking counterpart of {@code BookingService.checkAvailability}; keep the rules in step.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveBookingService {
+
+    private final ReactiveBookingRepository bookingRepository;
+    private final ReactiveHotelRepository hotelRepository;
+
+    public Mono<AvailabilityResponse> checkAvailability(AvailabilityCheckRequest request) {
+        return validateHotelExists(request.getHotelId())
+                .then(validateDateOrder(request.getCheckInDate(), request.getCheckOutDate()))
+                .then(bookingRepository.existsOverlappingBooking(
+                        request.getHotelId(),
+                        request.getRoomNumber(),
+                        request.getCheckInDate(),
+                        request.getCheckOutDate()))
+                .map(overlapping -> {
+                    boolean available = !overlapping;
+                    return AvailabilityResponse.builder()
+                            .available(available)
+                            .roomNumber(request.getRoomNumber())
+                            .hotelId(request.getHotelId())
+                            .message(available ? "Room is available" : "Room is not available for selected dates")
+                            .build();
+                });
+    }
+
+    private Mono<Void> validateHotelExists(Long hotelId) {
+        return hotelRepository.existsById(hotelId)
+                .flatMap(exists -> exists
+                        ? Mono.<Void>empty()
+                        : Mono.error(new ResourceNotFoundException("Hotel", "id", hotelId)));
+    }
+
+    private Mono<Void> validateDateOrder(LocalDate checkIn, LocalDate checkOut) {
+        return Mono.defer(() -> checkOut.isAfter(checkIn)
+                ? Mono.empty()
+                : Mono.error(new BookingValidationException("Check-out date must be after check-in date")));
+    }
+}
@@ -0,0 +1,76 @@
+package com.diginest.aireceptionist.reactive.service;
+
+import com.diginest.aireceptionist.dto.UsageResponse;
+import com.diginest.aireceptionist.exception.ResourceNotFoundException;
+import com.diginest.aireceptionist.exception.UsageLimitExceededException;
+import com.diginest.aireceptionist.reactive.repository.ReactiveHotelRepository;
+import com.diginest.aireceptionist.reactive.repository.ReactiveUsageRecordRepository;
+import com.diginest.aireceptionist.reactive.repository.UsageRecordRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking counterpart of {@code UsageService.updateTokenUsage}; keep the rules in step.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveUsageService {
+
+    private static final String COMPLETED = "COMPLETED";
+
+    private final ReactiveUsageRecordRepository usageRecordRepository;
+    private final ReactiveHotelRepository hotelRepository;
+
+    @Transactional
+    public Mono<UsageResponse> updateTokenUsage(String sessionId, Integer inputTokens, Integer outputTokens) {
+        // Locked before the record is read or usage summed, as in UsageService
+        return usageRecordRepository.lockBySessionId(sessionId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Usage record", "sessionId", sessionId)))
+                .flatMap(hotelId -> usageRecordRepository.findBySessionId(sessionId))
+                .flatMap(record -> {
+                    if (COMPLETED.equals(record.status())) {
+                        return Mono.error(new IllegalStateException("Cannot update completed session"));
+                    }
+
+                    int newTokens = inputTokens + outputTokens;
+                    return hotelRepository.findMonthlyTokenLimitById(record.hotelId())
+                            .switchIfEmpty(Mono.error(() ->
+                                    new ResourceNotFoundException("Hotel", "id", record.hotelId())))
+                            .flatMap(monthlyTokenLimit -> getCurrentMonthTokenUsage(record.hotelId())
+                                    .flatMap(currentMonthUsage -> currentMonthUsage + newTokens > monthlyTokenLimit
+                                            ? Mono.error(new UsageLimitExceededException("USAGE_LIMIT_EXCEEDED"))
+                                            : usageRecordRepository.addTokens(record.id(), inputTokens, outputTokens)))
+                            .then(usageRecordRepository.findBySessionId(sessionId));
+                })
+                .map(this::mapToResponse);
+    }
+
+    private Mono<Integer> getCurrentMonthTokenUsage(Long hotelId) {
+        LocalDateTime startOfMonth = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+        return hotelRepository.existsById(hotelId)
+                .flatMap(exists -> exists
+                        ? usageRecordRepository.sumTotalTokensByHotelIdAndDateAfter(hotelId, startOfMonth)
+                        : Mono.error(new ResourceNotFoundException("Hotel", "id", hotelId)));
+    }
+
+    private UsageResponse mapToResponse(UsageRecordRow record) {
+        return UsageResponse.builder()
+                .id(record.id())
+                .hotelId(record.hotelId())
+                .sessionId(record.sessionId())
+                .callStartTime(record.callStartTime())
+                .callEndTime(record.callEndTime())
+                .durationSeconds(record.durationSeconds())
+                .inputTokens(record.inputTokens())
+                .outputTokens(record.outputTokens())
+                .totalTokens(record.totalTokens())
+                .bookingAttempts(record.bookingAttempts())
+                .status(record.status())
+                .build();
+    }
+}
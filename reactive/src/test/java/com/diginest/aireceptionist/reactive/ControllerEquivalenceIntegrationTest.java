@@ -0,0 +1,379 @@
+package com.diginest.aireceptionist.reactive;
+
+import com.diginest.aireceptionist.AiReceptionistApplication;
+import com.diginest.aireceptionist.dto.*;
+import com.diginest.aireceptionist.entity.Hotel;
+import com.diginest.aireceptionist.repository.*;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the servlet app and the reactive gateway against one in-memory database and asserts that
+ * both stacks answer the same requests with the same status and body.
+ */
+class ControllerEquivalenceIntegrationTest {
+
+    private static final String JWT_SECRET = "testSecretKeyForJwtSigningInTestEnvironmentOnly1234567890AbcdefGhij";
+
+    private static final String[] IGNORED_FIELDS = {"id", "sessionId", "callStartTime", "timestamp"};
+
+    private static ConfigurableApplicationContext servletApp;
+    private static ConfigurableApplicationContext reactiveApp;
+    private static WebTestClient servlet;
+    private static WebTestClient reactive;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+
+    private Long hotelId;
+    private String authToken;
+
+    @BeforeAll
+    static void startApplications() {
+        servletApp = new SpringApplicationBuilder(AiReceptionistApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .initializers(context -> context.getBeanFactory()
+                        .registerSingleton("excludeReactiveGateway", new ExcludeReactiveGatewayFilter()))
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:equivalence;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.flyway.locations=classpath:db/migration/common,classpath:db/migration/{vendor}",
+                        "--spring.sql.init.mode=never",
+                        "--app.jwt.secret=" + JWT_SECRET,
+                        "--spring.autoconfigure.exclude="
+                                + "org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration");
+
+        reactiveApp = new SpringApplicationBuilder(ReactiveGatewayApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .run(
+                        "--server.port=0",
+                        "--spring.r2dbc.url=r2dbc:h2:mem:///equivalence?options=DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.r2dbc.username=sa",
+                        "--spring.r2dbc.password=",
+                        "--spring.sql.init.mode=never",
+                        "--app.jwt.secret=" + JWT_SECRET,
+                        "--spring.autoconfigure.exclude="
+                                + "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration,"
+                                + "org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration");
+
+        servlet = client(servletApp);
+        reactive = client(reactiveApp);
+    }
+
+    @AfterAll
+    static void stopApplications() {
+        if (reactiveApp != null) {
+            reactiveApp.close();
+        }
+        if (servletApp != null) {
+            servletApp.close();
+        }
+    }
+
+    private static WebTestClient client(ConfigurableApplicationContext context) {
+        return WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + context.getEnvironment().getProperty("local.server.port"))
+                .build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        servletApp.getBean(BookingRepository.class).deleteAll();
+        servletApp.getBean(UsageRecordRepository.class).deleteAll();
+        servletApp.getBean(UserRepository.class).deleteAll();
+        servletApp.getBean(HotelRepository.class).deleteAll();
+
+        hotelId = createHotel(100000);
+        authToken = getAuthToken();
+    }
+
+    private Long createHotel(int monthlyTokenLimit) {
+        Hotel hotel = new Hotel();
+        hotel.setName("Equivalence Hotel");
+        hotel.setIsActive(true);
+        hotel.setMonthlyTokenLimit(monthlyTokenLimit);
+        return servletApp.getBean(HotelRepository.class).save(hotel).getId();
+    }
+
+    private String getAuthToken() {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setEmail("admin@test.com");
+        registerRequest.setPassword("Password123!");
+        registerRequest.setFirstName("Admin");
+        registerRequest.setLastName("Test");
+        registerRequest.setHotelId(hotelId);
+        servlet.post().uri("/api/auth/register").bodyValue(registerRequest).exchange();
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("admin@test.com");
+        loginRequest.setPassword("Password123!");
+        return servlet.post().uri("/api/auth/login").bodyValue(loginRequest).exchange()
+                .expectBody(JwtResponse.class)
+                .returnResult()
+                .getResponseBody()
+                .getToken();
+    }
+
+    private AvailabilityCheckRequest availabilityRequest(Long hotelId, String room, int fromDays, int toDays) {
+        AvailabilityCheckRequest request = new AvailabilityCheckRequest();
+        request.setHotelId(hotelId);
+        request.setRoomNumber(room);
+        request.setCheckInDate(LocalDate.now().plusDays(fromDays));
+        request.setCheckOutDate(LocalDate.now().plusDays(toDays));
+        return request;
+    }
+
+    private void startSession(Long hotelId, String sessionId) {
+        UsageStartRequest request = new UsageStartRequest();
+        request.setHotelId(hotelId);
+        request.setSessionId(sessionId);
+        servlet.post().uri("/api/usage/start")
+                .headers(headers -> headers.setBearerAuth(authToken))
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated();
+    }
+
+    private UsageUpdateRequest updateRequest(String sessionId, int input, int output) {
+        UsageUpdateRequest request = new UsageUpdateRequest();
+        request.setSessionId(sessionId);
+        request.setInputTokens(input);
+        request.setOutputTokens(output);
+        return request;
+    }
+
+    private EntityExchangeResult<byte[]> post(WebTestClient client, String uri, Object body, String token) {
+        return post(client, uri, body, token, MediaType.APPLICATION_JSON);
+    }
+
+    private EntityExchangeResult<byte[]> post(WebTestClient client, String uri, Object body, String token,
+                                              MediaType mediaType) {
+        return client.post().uri(uri)
+                .contentType(mediaType)
+                .accept(mediaType)
+                .headers(headers -> {
+                    if (token != null) {
+                        headers.set(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+                    }
+                })
+                .bodyValue(body)
+                .exchange()
+                .expectBody()
+                .returnResult();
+    }
+
+    private void assertEquivalent(EntityExchangeResult<byte[]> fromServlet, EntityExchangeResult<byte[]> fromReactive,
+                                  String... ignoredFields) throws Exception {
+        assertThat(fromReactive.getStatus()).isEqualTo(fromServlet.getStatus());
+        assertThat(normalize(fromReactive.getResponseBody(), ignoredFields))
+                .isEqualTo(normalize(fromServlet.getResponseBody(), ignoredFields));
+    }
+
+    private JsonNode normalize(byte[] body, String... ignoredFields) throws Exception {
+        if (body == null || body.length == 0) {
+            return objectMapper.nullNode();
+        }
+        JsonNode node = objectMapper.readTree(body);
+        if (node instanceof ObjectNode object) {
+            object.remove(List.of(IGNORED_FIELDS));
+            object.remove(List.of(ignoredFields));
+        }
+        return node;
+    }
+
+    private void assertBothEquivalent(String uri, Object body) throws Exception {
+        assertEquivalent(post(servlet, uri, body, authToken), post(reactive, uri, body, authToken));
+    }
+
+    @Test
+    void checkAvailability_RoomAvailable_SameResponse() throws Exception {
+        assertBothEquivalent("/api/bookings/check-availability", availabilityRequest(hotelId, "101", 1, 3));
+    }
+
+    @Test
+    void checkAvailability_Cbor_SameResponse() throws Exception {
+        byte[] request = cborMapper.writeValueAsBytes(availabilityRequest(hotelId, "101", 1, 3));
+
+        EntityExchangeResult<byte[]> fromServlet = post(
+                servlet, "/api/bookings/check-availability", request, authToken, MediaType.APPLICATION_CBOR);
+        EntityExchangeResult<byte[]> fromReactive = post(
+                reactive, "/api/bookings/check-availability", request, authToken, MediaType.APPLICATION_CBOR);
+
+        assertThat(fromServlet.getResponseHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(fromReactive.getResponseHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(fromReactive.getStatus()).isEqualTo(fromServlet.getStatus());
+        assertThat(cborMapper.readTree(fromReactive.getResponseBody()))
+                .isEqualTo(cborMapper.readTree(fromServlet.getResponseBody()));
+    }
+
+    @Test
+    void checkAvailability_RoomBooked_SameResponse() throws Exception {
+        BookingCreateRequest booking = new BookingCreateRequest();
+        booking.setHotelId(hotelId);
+        booking.setGuestName("Test Guest");
+        booking.setGuestEmail("test@test.com");
+        booking.setCheckInDate(LocalDate.now().plusDays(1));
+        booking.setCheckOutDate(LocalDate.now().plusDays(4));
+        booking.setRoomNumber("102");
+        booking.setTotalAmount(new BigDecimal("300.00"));
+        assertThat(post(servlet, "/api/bookings/create", booking, authToken).getStatus().value()).isEqualTo(201);
+
+        assertBothEquivalent("/api/bookings/check-availability", availabilityRequest(hotelId, "102", 2, 3));
+        assertBothEquivalent("/api/bookings/check-availability", availabilityRequest(hotelId, "102", 4, 6));
+    }
+
+    @Test
+    void checkAvailability_CancelledBookingIgnored_SameResponse() throws Exception {
+        BookingCreateRequest booking = new BookingCreateRequest();
+        booking.setHotelId(hotelId);
+        booking.setGuestName("Cancelled Guest");
+        booking.setCheckInDate(LocalDate.now().plusDays(1));
+        booking.setCheckOutDate(LocalDate.now().plusDays(3));
+        booking.setRoomNumber("103");
+        Long bookingId = objectMapper.readTree(post(servlet, "/api/bookings/create", booking, authToken)
+                .getResponseBody()).get("id").asLong();
+        servlet.delete().uri("/api/bookings/cancel/" + bookingId)
+                .headers(headers -> headers.setBearerAuth(authToken))
+                .exchange()
+                .expectStatus().isNoContent();
+
+        assertBothEquivalent("/api/bookings/check-availability", availabilityRequest(hotelId, "103", 1, 3));
+    }
+
+    @Test
+    void checkAvailability_HotelNotFound_SameResponse() throws Exception {
+        assertBothEquivalent("/api/bookings/check-availability", availabilityRequest(99999L, "101", 1, 3));
+    }
+
+    @Test
+    void checkAvailability_InvalidDateOrder_SameResponse() throws Exception {
+        assertBothEquivalent("/api/bookings/check-availability", availabilityRequest(hotelId, "101", 5, 2));
+    }
+
+    @Test
+    void checkAvailability_MissingRoomNumber_SameResponse() throws Exception {
+        assertBothEquivalent("/api/bookings/check-availability", availabilityRequest(hotelId, null, 1, 3));
+    }
+
+    @Test
+    void checkAvailability_NoToken_BothUnauthorized() {
+        AvailabilityCheckRequest request = availabilityRequest(hotelId, "101", 1, 3);
+
+        assertThat(post(servlet, "/api/bookings/check-availability", request, null).getStatus().value()).isEqualTo(401);
+        assertThat(post(reactive, "/api/bookings/check-availability", request, null).getStatus().value()).isEqualTo(401);
+    }
+
+    @Test
+    void checkAvailability_InvalidToken_BothUnauthorized() {
+        AvailabilityCheckRequest request = availabilityRequest(hotelId, "101", 1, 3);
+
+        assertThat(post(servlet, "/api/bookings/check-availability", request, "invalid.token.here")
+                .getStatus().value()).isEqualTo(401);
+        assertThat(post(reactive, "/api/bookings/check-availability", request, "invalid.token.here")
+                .getStatus().value()).isEqualTo(401);
+    }
+
+    @Test
+    void updateUsage_Accumulates_SameResponse() throws Exception {
+        startSession(hotelId, "servlet-session");
+        startSession(hotelId, "reactive-session");
+
+        for (int i = 0; i < 3; i++) {
+            assertEquivalent(
+                    post(servlet, "/api/usage/update", updateRequest("servlet-session", 50, 30), authToken),
+                    post(reactive, "/api/usage/update", updateRequest("reactive-session", 50, 30), authToken));
+        }
+    }
+
+    @Test
+    void updateUsage_ExceedsLimit_SameResponse() throws Exception {
+        Long servletHotel = createHotel(100);
+        Long reactiveHotel = createHotel(100);
+        startSession(servletHotel, "servlet-limited");
+        startSession(reactiveHotel, "reactive-limited");
+
+        assertEquivalent(
+                post(servlet, "/api/usage/update", updateRequest("servlet-limited", 40, 20), authToken),
+                post(reactive, "/api/usage/update", updateRequest("reactive-limited", 40, 20), authToken),
+                "hotelId");
+        assertEquivalent(
+                post(servlet, "/api/usage/update", updateRequest("servlet-limited", 30, 20), authToken),
+                post(reactive, "/api/usage/update", updateRequest("reactive-limited", 30, 20), authToken),
+                "hotelId");
+    }
+
+    @Test
+    void updateUsage_SessionNotFound_SameResponse() throws Exception {
+        assertBothEquivalent("/api/usage/update", updateRequest("missing-session", 10, 10));
+    }
+
+    @Test
+    void updateUsage_CompletedSession_SameResponse() throws Exception {
+        startSession(hotelId, "completed-session");
+        UsageEndRequest endRequest = new UsageEndRequest();
+        endRequest.setSessionId("completed-session");
+        servlet.post().uri("/api/usage/end")
+                .headers(headers -> headers.setBearerAuth(authToken))
+                .bodyValue(endRequest)
+                .exchange()
+                .expectStatus().isOk();
+
+        assertBothEquivalent("/api/usage/update", updateRequest("completed-session", 10, 10));
+    }
+
+    @Test
+    void updateUsage_NegativeTokens_SameResponse() throws Exception {
+        startSession(hotelId, "negative-session");
+
+        assertBothEquivalent("/api/usage/update", updateRequest("negative-session", -1, 10));
+    }
+
+    static class ExcludeReactiveGatewayFilter extends TypeExcludeFilter {
+
+        @Override
+        public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+            return metadataReader.getClassMetadata().getClassName()
+                    .startsWith(ReactiveGatewayApplication.class.getPackageName() + ".");
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj != null && getClass() == obj.getClass();
+        }
+
+        @Override
+        public int hashCode() {
+            return getClass().hashCode();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.diginest.aireceptionist.config;
+
+import lombok.Data;
+
+/**
+ * One entry of {@code app.datasource.concurrency-limit.bulkheads}, keyed by the name used in
+ * {@link DatabaseBulkhead}.
+ */
+@Data
+public class ConnectionBulkheadProperties {
+
+    private int maxPermits;
+
+    /** 0 = the default bulkhead's timeout. */
+    private long acquireTimeoutMs;
+}
@@ -0,0 +1,185 @@
+package com.diginest.aireceptionist.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps concurrent connection checkouts at the pool size so virtual threads park on a
+ * semaphore instead of piling into Hikari's hand-off queue. A permit is held until close().
+ * Time spent waiting for a permit is accumulated for metrics, since it never shows up in Hikari's own.
+ * <p>
+ * Permits are partitioned into bulkheads, one per workload class, picked through {@link DatabaseBulkhead};
+ * a saturated bulkhead times out its own callers without taking connections from the others.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    public static final String DEFAULT_BULKHEAD = "default";
+
+    private final Map<String, Bulkhead> bulkheads = new LinkedHashMap<>();
+    private final Bulkhead defaultBulkhead;
+
+    public ConnectionLimitingDataSource(DataSource target, int maxPermits, long acquireTimeoutMs) {
+        this(target, List.of(new Bulkhead(DEFAULT_BULKHEAD, maxPermits, acquireTimeoutMs)));
+    }
+
+    public ConnectionLimitingDataSource(DataSource target, List<Bulkhead> bulkheads) {
+        super(target);
+        bulkheads.forEach(bulkhead -> this.bulkheads.put(bulkhead.name, bulkhead));
+        this.defaultBulkhead = this.bulkheads.get(DEFAULT_BULKHEAD);
+        if (defaultBulkhead == null) {
+            throw new IllegalArgumentException("A '" + DEFAULT_BULKHEAD + "' bulkhead is required");
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Bulkhead bulkhead = currentBulkhead();
+        bulkhead.acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection(), bulkhead);
+        } catch (SQLException | RuntimeException ex) {
+            bulkhead.permits.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Bulkhead bulkhead = currentBulkhead();
+        bulkhead.acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection(username, password), bulkhead);
+        } catch (SQLException | RuntimeException ex) {
+            bulkhead.permits.release();
+            throw ex;
+        }
+    }
+
+    public Collection<Bulkhead> getBulkheads() {
+        return bulkheads.values();
+    }
+
+    public Bulkhead getBulkhead(String name) {
+        return bulkheads.get(name);
+    }
+
+    private Bulkhead currentBulkhead() {
+        String name = DatabaseBulkheadAspect.currentBulkhead();
+        return name != null ? bulkheads.getOrDefault(name, defaultBulkhead) : defaultBulkhead;
+    }
+
+    private static Connection limited(Connection target, Bulkhead bulkhead) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionLimitingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "close":
+                            if (released.compareAndSet(false, true)) {
+                                try {
+                                    target.close();
+                                } finally {
+                                    bulkhead.permits.release();
+                                }
+                            }
+                            return null;
+                        default:
+                            try {
+                                return method.invoke(target, args);
+                            } catch (InvocationTargetException ex) {
+                                throw ex.getTargetException();
+                            }
+                    }
+                });
+    }
+
+    public static class Bulkhead {
+
+        private final String name;
+        private final Semaphore permits;
+        private final int maxPermits;
+        private final long acquireTimeoutMs;
+        private final LongAdder acquisitions = new LongAdder();
+        private final LongAdder acquireWaitNanos = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+
+        public Bulkhead(String name, int maxPermits, long acquireTimeoutMs) {
+            this.name = name;
+            this.permits = new Semaphore(maxPermits, true);
+            this.maxPermits = maxPermits;
+            this.acquireTimeoutMs = acquireTimeoutMs;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getMaxPermits() {
+            return maxPermits;
+        }
+
+        public long getAcquireTimeoutMs() {
+            return acquireTimeoutMs;
+        }
+
+        public int getAvailablePermits() {
+            return permits.availablePermits();
+        }
+
+        public int getQueueLength() {
+            return permits.getQueueLength();
+        }
+
+        public long getAcquisitions() {
+            return acquisitions.sum();
+        }
+
+        public long getAcquireWaitNanos() {
+            return acquireWaitNanos.sum();
+        }
+
+        public long getTimeouts() {
+            return timeouts.sum();
+        }
+
+        private void acquire() throws SQLException {
+            if (permits.tryAcquire()) {
+                acquisitions.increment();
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    timeouts.increment();
+                    throw new SQLTransientConnectionException("Connection not available in bulkhead '" + name
+                            + "', request timed out after " + acquireTimeoutMs + "ms");
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("Interrupted while waiting for a connection", ex);
+            } finally {
+                acquireWaitNanos.add(System.nanoTime() - start);
+            }
+            acquisitions.increment();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.diginest.aireceptionist.config;
+
+import java.lang.annotation.*;
+
+/**
+ * Names the connection bulkhead ({@code app.datasource.concurrency-limit.bulkheads}) whose permits the
+ * connections opened inside the annotated method or class draw on. The innermost annotation wins; work
+ * outside any annotation, or naming an unconfigured bulkhead, uses the default one.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DatabaseBulkhead {
+
+    String value();
+}
@@ -0,0 +1,59 @@
+package com.diginest.aireceptionist.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * Binds the {@link DatabaseBulkhead} of the running method to the thread. Ordered ahead of the transaction
+ * interceptor, which checks out the connection when the transaction begins.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DatabaseBulkheadAspect {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    /**
+     * The bulkhead bound to the calling thread, or null outside any {@link DatabaseBulkhead}.
+     */
+    public static String currentBulkhead() {
+        return CURRENT.get();
+    }
+
+    // Resolved by hand: ordered this early, the aspect runs before advice arguments can be bound
+    @Around("@annotation(com.diginest.aireceptionist.config.DatabaseBulkhead) "
+            + "|| @within(com.diginest.aireceptionist.config.DatabaseBulkhead)")
+    public Object bindBulkhead(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        DatabaseBulkhead bulkhead = AnnotatedElementUtils.findMergedAnnotation(method, DatabaseBulkhead.class);
+        if (bulkhead == null) {
+            bulkhead = AnnotatedElementUtils.findMergedAnnotation(
+                    AopUtils.getTargetClass(joinPoint.getTarget()), DatabaseBulkhead.class);
+        }
+        return bulkhead != null ? proceedIn(bulkhead.value(), joinPoint) : joinPoint.proceed();
+    }
+
+    private static Object proceedIn(String bulkhead, ProceedingJoinPoint joinPoint) throws Throwable {
+        String previous = CURRENT.get();
+        CURRENT.set(bulkhead);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
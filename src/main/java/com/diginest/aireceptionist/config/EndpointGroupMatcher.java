@@ -0,0 +1,42 @@
+package com.diginest.aireceptionist.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+/**
+ * Resolves a request to the first endpoint group in {@code app.rate-limit.groups} whose path patterns match it.
+ */
+class EndpointGroupMatcher {
+
+    private final List<MatchedGroup> groups;
+
+    EndpointGroupMatcher(List<RateLimitProperties.Group> groups) {
+        this.groups = groups.stream()
+                .map(group -> new MatchedGroup(group, group.getPathPatterns().stream()
+                        .map(PathPatternParser.defaultInstance::parse)
+                        .toList()))
+                .toList();
+    }
+
+    RateLimitProperties.Group match(HttpServletRequest request) {
+        PathContainer path = ServletRequestPathUtils.hasParsedRequestPath(request)
+                ? ServletRequestPathUtils.getParsedRequestPath(request).pathWithinApplication()
+                : PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (MatchedGroup candidate : groups) {
+            for (PathPattern pattern : candidate.patterns()) {
+                if (pattern.matches(path)) {
+                    return candidate.group();
+                }
+            }
+        }
+        return null;
+    }
+
+    private record MatchedGroup(RateLimitProperties.Group group, List<PathPattern> patterns) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.diginest.aireceptionist.config;
+
+import com.diginest.aireceptionist.exception.RateLimitExceededException;
+import com.diginest.aireceptionist.security.jwt.JwtAuthenticationFilter;
+import com.diginest.aireceptionist.service.HotelRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles authenticated requests per hotel (taken from the JWT) and endpoint group. Requests without
+ * a hotel claim, e.g. from tokens issued before the claim existed, are left to the edge proxy.
+ */
+public class HotelRateLimitInterceptor implements HandlerInterceptor {
+
+    private final HotelRateLimiter hotelRateLimiter;
+    private final EndpointGroupMatcher groups;
+
+    public HotelRateLimitInterceptor(HotelRateLimiter hotelRateLimiter, RateLimitProperties properties) {
+        this.hotelRateLimiter = hotelRateLimiter;
+        properties.getGroups().forEach(HotelRateLimitInterceptor::validate);
+        this.groups = new EndpointGroupMatcher(properties.getGroups());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(request.getAttribute(JwtAuthenticationFilter.HOTEL_ID_ATTRIBUTE) instanceof Long hotelId)) {
+            return true;
+        }
+        RateLimitProperties.Group group = groups.match(request);
+        if (group == null) {
+            return true;
+        }
+
+        long waitNanos = hotelRateLimiter.tryAcquire(group, hotelId);
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            throw new RateLimitExceededException(
+                    "Rate limit exceeded for " + group.getName() + " requests", retryAfterSeconds);
+        }
+        return true;
+    }
+
+    private static void validate(RateLimitProperties.Group group) {
+        if (group.getName() == null || group.getCapacity() <= 0 || group.getRefillPerSecond() <= 0) {
+            throw new IllegalStateException("Rate limit group '" + group.getName()
+                    + "' needs a name, a positive capacity and a positive refill-per-second");
+        }
+    }
+}
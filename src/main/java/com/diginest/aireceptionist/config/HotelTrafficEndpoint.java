@@ -0,0 +1,28 @@
+package com.diginest.aireceptionist.config;
+
+import com.diginest.aireceptionist.dto.HotelTrafficResponse;
+import com.diginest.aireceptionist.service.HotelTrafficTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code GET /actuator/hoteltraffic}: the busiest and slowest hotels over the tracker's sliding window,
+ * optionally for one endpoint group.
+ */
+@Component
+@Endpoint(id = "hoteltraffic")
+@RequiredArgsConstructor
+public class HotelTrafficEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final HotelTrafficTracker hotelTrafficTracker;
+
+    @ReadOperation
+    public HotelTrafficResponse hotelTraffic(@Nullable String group, @Nullable Integer limit) {
+        return hotelTrafficTracker.snapshot(group, limit != null && limit > 0 ? limit : DEFAULT_LIMIT);
+    }
+}
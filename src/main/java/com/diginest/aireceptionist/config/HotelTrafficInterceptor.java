@@ -0,0 +1,43 @@
+package com.diginest.aireceptionist.config;
+
+import com.diginest.aireceptionist.security.jwt.JwtAuthenticationFilter;
+import com.diginest.aireceptionist.service.HotelTrafficTracker;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Times authenticated requests per hotel (taken from the JWT) and endpoint group. Registered ahead of the
+ * rate limiter, so throttled requests are counted too.
+ */
+public class HotelTrafficInterceptor implements HandlerInterceptor {
+
+    static final String UNGROUPED = "other";
+
+    private static final String START_ATTRIBUTE = HotelTrafficInterceptor.class.getName() + ".start";
+
+    private final HotelTrafficTracker hotelTrafficTracker;
+    private final EndpointGroupMatcher groups;
+
+    public HotelTrafficInterceptor(HotelTrafficTracker hotelTrafficTracker, RateLimitProperties properties) {
+        this.hotelTrafficTracker = hotelTrafficTracker;
+        this.groups = new EndpointGroupMatcher(properties.getGroups());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(JwtAuthenticationFilter.HOTEL_ID_ATTRIBUTE) instanceof Long hotelId)
+                || !(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        RateLimitProperties.Group group = groups.match(request);
+        hotelTrafficTracker.record(hotelId, group != null ? group.getName() : UNGROUPED, System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,82 @@
+package com.diginest.aireceptionist.config;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * Keeps a continuous flight recording with the JDK's "default" settings (about 1% overhead) plus the
+ * {@code com.diginest.*} business events, so GC, lock and I/O events can be lined up with availability
+ * checks, booking conflicts, quota decisions and JWT authentication.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.jfr.enabled", havingValue = "true")
+@Slf4j
+public class JfrConfig {
+
+    @Bean(destroyMethod = "close")
+    public Recording continuousRecording(@Value("${app.jfr.max-age:15m}") Duration maxAge)
+            throws IOException, ParseException {
+        Recording recording = new Recording(jdk.jfr.Configuration.getConfiguration("default"));
+        recording.setName("diginest-continuous");
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.start();
+        log.info("Started continuous flight recording, keeping the last {}", maxAge);
+        return recording;
+    }
+
+    @Bean
+    public FlightRecordingEndpoint flightRecordingEndpoint(Recording continuousRecording) {
+        return new FlightRecordingEndpoint(continuousRecording.getMaxAge());
+    }
+
+    /**
+     * {@code GET /actuator/jfr[?seconds=]}: the last {@code seconds} (default: everything retained) of all
+     * running recordings as a .jfr file, for JDK Mission Control or {@code jfr print}. The dump is streamed
+     * from a temporary file that is deleted once the response has been written.
+     */
+    @Endpoint(id = "jfr")
+    public static class FlightRecordingEndpoint {
+
+        private final Duration maxAge;
+
+        FlightRecordingEndpoint(Duration maxAge) {
+            this.maxAge = maxAge;
+        }
+
+        @ReadOperation(produces = "application/octet-stream")
+        public WebEndpointResponse<Resource> dump(@Nullable Integer seconds) throws IOException {
+            Duration window = seconds != null && seconds > 0 && Duration.ofSeconds(seconds).compareTo(maxAge) < 0
+                    ? Duration.ofSeconds(seconds)
+                    : maxAge;
+            Path file = Files.createTempFile("diginest-", ".jfr");
+            try (Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot()) {
+                snapshot.setMaxAge(window);
+                snapshot.dump(file);
+                return new WebEndpointResponse<>(new InputStreamResource(
+                        Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE)));
+            } catch (IOException | RuntimeException ex) {
+                Files.deleteIfExists(file);
+                throw ex;
+            }
+        }
+    }
+}
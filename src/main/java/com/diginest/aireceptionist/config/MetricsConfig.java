@@ -0,0 +1,78 @@
+package com.diginest.aireceptionist.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service methods are observed through {@code @Observed(name = "service.invocations")}, which yields both a
+ * timer and a trace span; repository calls, Hikari and HTTP requests are timed by Boot. This adds the aspect
+ * and the connection limiter's wait and saturation metrics, per bulkhead.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+
+    @Bean
+    public MeterBinder connectionLimiterMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+                .map(MetricsConfig::unwrapLimiter)
+                .filter(Objects::nonNull)
+                .flatMap(limiter -> limiter.getBulkheads().stream())
+                .forEach(bulkhead -> {
+                    FunctionTimer.builder("datasource.connection.limiter.wait", bulkhead,
+                                    ConnectionLimitingDataSource.Bulkhead::getAcquisitions,
+                                    ConnectionLimitingDataSource.Bulkhead::getAcquireWaitNanos,
+                                    TimeUnit.NANOSECONDS)
+                            .tag("bulkhead", bulkhead.getName())
+                            .description("Time spent waiting for a connection permit before reaching the pool")
+                            .register(registry);
+                    Gauge.builder("datasource.connection.limiter.queued", bulkhead,
+                                    ConnectionLimitingDataSource.Bulkhead::getQueueLength)
+                            .tag("bulkhead", bulkhead.getName())
+                            .description("Threads waiting for a connection permit")
+                            .register(registry);
+                    Gauge.builder("datasource.connection.limiter.available", bulkhead,
+                                    ConnectionLimitingDataSource.Bulkhead::getAvailablePermits)
+                            .tag("bulkhead", bulkhead.getName())
+                            .description("Connection permits currently free")
+                            .register(registry);
+                    Gauge.builder("datasource.connection.limiter.max", bulkhead,
+                                    ConnectionLimitingDataSource.Bulkhead::getMaxPermits)
+                            .tag("bulkhead", bulkhead.getName())
+                            .description("Connection permits reserved for the bulkhead")
+                            .register(registry);
+                    FunctionCounter.builder("datasource.connection.limiter.timeouts", bulkhead,
+                                    ConnectionLimitingDataSource.Bulkhead::getTimeouts)
+                            .tag("bulkhead", bulkhead.getName())
+                            .description("Checkouts that gave up waiting for a connection permit")
+                            .register(registry);
+                });
+    }
+
+    private static ConnectionLimitingDataSource unwrapLimiter(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ConnectionLimitingDataSource.class)
+                    ? dataSource.unwrap(ConnectionLimitingDataSource.class)
+                    : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+}
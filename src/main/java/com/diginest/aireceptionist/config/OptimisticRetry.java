@@ -0,0 +1,15 @@
+package com.diginest.aireceptionist.config;
+
+import java.lang.annotation.*;
+
+/**
+ * Re-runs the annotated method when its transaction loses an optimistic lock ({@code @Version}) race,
+ * up to {@code app.optimistic-retry.max-attempts} times with jittered backoff. Only the outermost
+ * annotated call on the thread retries (nested ones run once per outer attempt), and only if it starts
+ * the transaction: a call joining an existing one cannot be re-run on its own.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface OptimisticRetry {
+}
@@ -0,0 +1,111 @@
+package com.diginest.aireceptionist.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retries {@link OptimisticRetry} methods that fail with an {@link OptimisticLockingFailureException}.
+ * Ordered ahead of the transaction interceptor so every attempt runs in a fresh transaction and
+ * persistence context. Conflicts are counted per operation in {@code optimistic.lock.conflicts}.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Slf4j
+public class OptimisticRetryAspect {
+
+    /**
+     * Set while an outer annotated call is retrying on this thread; nested annotated calls run once each.
+     */
+    private static final ThreadLocal<Boolean> RETRYING = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+
+    public OptimisticRetryAspect(MeterRegistry meterRegistry,
+                                 @Value("${app.optimistic-retry.max-attempts:4}") int maxAttempts,
+                                 @Value("${app.optimistic-retry.initial-backoff-ms:10}") long initialBackoffMs,
+                                 @Value("${app.optimistic-retry.max-backoff-ms:200}") long maxBackoffMs) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    // Plain pointcut for the same reason as DatabaseBulkheadAspect: ordered too early to bind arguments
+    @Around("@annotation(com.diginest.aireceptionist.config.OptimisticRetry) "
+            + "|| @within(com.diginest.aireceptionist.config.OptimisticRetry)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (RETRYING.get() != null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            // An outer call owns the retry loop or the transaction, so the conflict surfaces (and is retried) there
+            return joinPoint.proceed();
+        }
+        RETRYING.set(Boolean.TRUE);
+        try {
+            return retryLoop(joinPoint);
+        } finally {
+            RETRYING.remove();
+        }
+    }
+
+    private Object retryLoop(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = operation(joinPoint);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException ex) {
+                boolean exhausted = attempt >= maxAttempts;
+                conflicts(operation, exhausted ? "exhausted" : "retried").increment();
+                if (exhausted) {
+                    log.warn("{} still conflicting after {} attempts", operation, attempt);
+                    throw ex;
+                }
+                try {
+                    TimeUnit.MILLISECONDS.sleep(backoffMs(attempt));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    /**
+     * Full jitter: uniform in [0, min(max, initial * 2^(attempt - 1))], so colliding callers spread out
+     * instead of colliding again on the same schedule.
+     */
+    private long backoffMs(int attempt) {
+        long ceiling = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+        return ceiling > 0 ? ThreadLocalRandom.current().nextLong(ceiling + 1) : 0;
+    }
+
+    private Counter conflicts(String operation, String outcome) {
+        return Counter.builder("optimistic.lock.conflicts")
+                .description("Optimistic lock conflicts, by operation and whether the call was retried or gave up")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String operation(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        return AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName() + "." + signature.getMethod().getName();
+    }
+}
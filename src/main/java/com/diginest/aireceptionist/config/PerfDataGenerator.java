@@ -0,0 +1,271 @@
+package com.diginest.aireceptionist.config;
+
+import com.diginest.aireceptionist.entity.Booking;
+import com.diginest.aireceptionist.entity.UsageRecord;
+import com.diginest.aireceptionist.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes a large synthetic dataset for performance work: hotels with room inventories, one admin each,
+ * bookings laid out room by room over history and future with a target occupancy, and months of call usage.
+ * Rows go in through batched JDBC, one hotel per task on a fixed pool. Generation is deterministic per seed
+ * and skipped when generated hotels already exist.
+ */
+@Component
+@Profile("perf-data")
+@EnableConfigurationProperties(PerfDataProperties.class)
+@RequiredArgsConstructor
+@Slf4j
+public class PerfDataGenerator implements CommandLineRunner {
+
+    static final String HOTEL_NAME_PREFIX = "Perf Hotel ";
+
+    private static final String[] ROOM_TYPES = {"Standard", "Deluxe", "Family", "Executive", "Suite"};
+    private static final int[] ROOM_TYPE_WEIGHTS = {50, 25, 12, 8, 5};
+    private static final int ROOMS_PER_FLOOR = 20;
+
+    private static final String INSERT_HOTEL =
+            "INSERT INTO hotels (name, address, phone, email, is_active, monthly_token_limit) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_USER =
+            "INSERT INTO users (hotel_id, email, password, first_name, last_name, role, is_active, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ROOM_TYPE =
+            "INSERT INTO room_types (hotel_id, name, description, base_price, max_occupancy, total_rooms, is_active, "
+                    + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_BOOKING =
+            "INSERT INTO bookings (hotel_id, guest_name, guest_email, guest_phone, check_in_date, check_out_date, "
+                    + "room_number, total_amount, status, confirmed_at, created_at, updated_at, version) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_USAGE_RECORD =
+            "INSERT INTO usage_records (hotel_id, session_id, call_start_time, call_end_time, duration_seconds, "
+                    + "input_tokens, output_tokens, total_tokens, booking_attempts, status, created_at, updated_at, "
+                    + "version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final PerfDataProperties properties;
+
+    private final LongAdder roomCount = new LongAdder();
+    private final LongAdder bookingCount = new LongAdder();
+    private final LongAdder usageRecordCount = new LongAdder();
+
+    @Override
+    public void run(String... args) throws InterruptedException, ExecutionException {
+        Long existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM hotels WHERE name LIKE ?", Long.class, HOTEL_NAME_PREFIX + "%");
+        if (existing != null && existing > 0) {
+            log.info("Performance dataset already present ({} hotels). Skipping...", existing);
+            return;
+        }
+
+        log.info("Generating performance dataset: {}", properties);
+        long start = System.nanoTime();
+        List<Long> hotelIds = insertHotels();
+        // BCrypt is deliberately slow, so every admin shares one hash
+        String passwordHash = passwordEncoder.encode(properties.getAdminPassword());
+
+        AtomicInteger done = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getThreads());
+        try {
+            List<Future<?>> hotels = new ArrayList<>(hotelIds.size());
+            for (Long hotelId : hotelIds) {
+                hotels.add(executor.submit(() -> {
+                    generateHotel(hotelId, passwordHash);
+                    int finished = done.incrementAndGet();
+                    if (finished % 100 == 0) {
+                        log.info("Generated {}/{} hotels, {} bookings, {} usage records so far",
+                                finished, hotelIds.size(), bookingCount.sum(), usageRecordCount.sum());
+                    }
+                }));
+            }
+            for (Future<?> hotel : hotels) {
+                hotel.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long rows = hotelIds.size() * 2L + bookingCount.sum() + usageRecordCount.sum();
+        log.info("Performance dataset generated in {} s: {} hotels, {} rooms, {} bookings, {} usage records ({} rows/s)",
+                String.format("%.1f", seconds), hotelIds.size(), roomCount.sum(), bookingCount.sum(),
+                usageRecordCount.sum(), Math.round(rows / seconds));
+    }
+
+    private List<Long> insertHotels() {
+        List<Object[]> hotels = new ArrayList<>(properties.getHotels());
+        for (int i = 1; i <= properties.getHotels(); i++) {
+            hotels.add(new Object[]{
+                    String.format("%s%05d", HOTEL_NAME_PREFIX, i),
+                    i + " Benchmark Avenue",
+                    String.format("+1-555-%07d", i),
+                    "frontdesk@perf-hotel-" + i + ".test",
+                    true,
+                    properties.getMonthlyTokenLimit()
+            });
+        }
+        batchInsert(INSERT_HOTEL, hotels);
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM hotels WHERE name LIKE ? ORDER BY id", Long.class, HOTEL_NAME_PREFIX + "%");
+    }
+
+    private void generateHotel(Long hotelId, String passwordHash) {
+        SplittableRandom random = new SplittableRandom(properties.getSeed() * 31 + hotelId);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.update(INSERT_USER, hotelId, "perf-admin-" + hotelId + "@diginest.test", passwordHash,
+                "Perf", "Admin " + hotelId, User.Role.HOTEL_ADMIN.name(), true, now, now);
+
+        int rooms = random.nextInt(properties.getMinRoomsPerHotel(), properties.getMaxRoomsPerHotel() + 1);
+        int typeCount = random.nextInt(2, ROOM_TYPES.length + 1);
+        BigDecimal[] roomPrices = new BigDecimal[rooms];
+        List<Object[]> roomTypes = new ArrayList<>(typeCount);
+        int weightTotal = 0;
+        for (int type = 0; type < typeCount; type++) {
+            weightTotal += ROOM_TYPE_WEIGHTS[type];
+        }
+        int assigned = 0;
+        for (int type = 0; type < typeCount; type++) {
+            // Cheapest types take the lower floors; the last type takes whatever rounding left over
+            int typeRooms = type == typeCount - 1 ? rooms - assigned : rooms * ROOM_TYPE_WEIGHTS[type] / weightTotal;
+            BigDecimal price = BigDecimal.valueOf(90 + type * 80L + random.nextInt(40));
+            for (int room = assigned; room < assigned + typeRooms; room++) {
+                roomPrices[room] = price;
+            }
+            assigned += typeRooms;
+            roomTypes.add(new Object[]{hotelId, ROOM_TYPES[type], ROOM_TYPES[type] + " room", price,
+                    2 + type / 2, typeRooms, true, now, now});
+        }
+        batchInsert(INSERT_ROOM_TYPE, roomTypes);
+        roomCount.add(rooms);
+
+        generateBookings(hotelId, roomPrices, random);
+        generateUsage(hotelId, random);
+    }
+
+    /**
+     * Walks each room's calendar, alternating geometric gaps with stays so that live bookings never overlap
+     * and cover about {@code occupancy} of the nights. Cancelled bookings are dropped in without taking the room.
+     */
+    private void generateBookings(Long hotelId, BigDecimal[] roomPrices, SplittableRandom random) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        LocalDate end = today.plusDays(properties.getFutureDays());
+        int meanStay = properties.getMeanStayNights();
+        double meanGap = meanStay * (1 - properties.getOccupancy()) / properties.getOccupancy();
+        List<Object[]> batch = new ArrayList<>(properties.getBatchSize());
+
+        for (int room = 0; room < roomPrices.length; room++) {
+            String roomNumber = String.valueOf((room / ROOMS_PER_FLOOR + 1) * 100 + room % ROOMS_PER_FLOOR + 1);
+            LocalDate day = today.minusDays(properties.getHistoryDays());
+            while (true) {
+                LocalDate checkIn = day.plusDays(Math.round(-meanGap * Math.log(1 - random.nextDouble())));
+                int nights = 1 + random.nextInt(2 * meanStay - 1);
+                LocalDate checkOut = checkIn.plusDays(nights);
+                if (!checkIn.isBefore(end)) {
+                    break;
+                }
+                boolean cancelled = random.nextDouble() < properties.getCancellationRate();
+                Booking.Status status = cancelled ? Booking.Status.CANCELLED
+                        : !checkOut.isAfter(today) ? Booking.Status.CHECKED_OUT
+                        : !checkIn.isAfter(today) ? Booking.Status.CHECKED_IN
+                        : random.nextInt(10) == 0 ? Booking.Status.PENDING
+                        : Booking.Status.CONFIRMED;
+                LocalDateTime createdAt = checkIn.minusDays(1 + random.nextInt(90)).atTime(random.nextInt(24), random.nextInt(60));
+                if (createdAt.isAfter(now)) {
+                    createdAt = now.minusMinutes(random.nextInt(60 * 24 * 30));
+                }
+                long guest = random.nextLong(1_000_000_000L);
+                batch.add(new Object[]{
+                        hotelId,
+                        "Guest " + guest,
+                        "guest" + guest + "@example.com",
+                        String.format("+1-555-%07d", guest % 10_000_000),
+                        Date.valueOf(checkIn),
+                        Date.valueOf(checkOut),
+                        roomNumber,
+                        roomPrices[room].multiply(BigDecimal.valueOf(nights)),
+                        status.name(),
+                        status == Booking.Status.PENDING ? null : Timestamp.valueOf(createdAt.plusMinutes(5)),
+                        Timestamp.valueOf(createdAt),
+                        Timestamp.valueOf(createdAt.plusMinutes(5))
+                });
+                if (batch.size() >= properties.getBatchSize()) {
+                    flush(INSERT_BOOKING, batch, bookingCount);
+                }
+                // A cancellation frees the room again, so the next stay may overlap it
+                day = cancelled ? checkIn.plusDays(1) : checkOut;
+            }
+        }
+        flush(INSERT_BOOKING, batch, bookingCount);
+    }
+
+    private void generateUsage(Long hotelId, SplittableRandom random) {
+        LocalDate today = LocalDate.now();
+        int perDay = properties.getCallsPerHotelPerDay();
+        List<Object[]> batch = new ArrayList<>(properties.getBatchSize());
+        long session = 0;
+
+        for (LocalDate day = today.minusMonths(properties.getUsageMonths()); day.isBefore(today); day = day.plusDays(1)) {
+            int calls = perDay == 0 ? 0 : random.nextInt(perDay / 2, perDay * 3 / 2 + 1);
+            for (int call = 0; call < calls; call++) {
+                LocalDateTime start = day.atStartOfDay().plusSeconds(random.nextInt(86_400));
+                int duration = 30 + random.nextInt(570);
+                int inputTokens = 500 + random.nextInt(4_500);
+                int outputTokens = inputTokens * (30 + random.nextInt(30)) / 100;
+                batch.add(new Object[]{
+                        hotelId,
+                        "perf-" + hotelId + "-" + session++,
+                        Timestamp.valueOf(start),
+                        Timestamp.valueOf(start.plusSeconds(duration)),
+                        (long) duration,
+                        inputTokens,
+                        outputTokens,
+                        inputTokens + outputTokens,
+                        random.nextInt(4) == 0 ? 1 + random.nextInt(2) : 0,
+                        UsageRecord.Status.COMPLETED.name(),
+                        Timestamp.valueOf(start),
+                        Timestamp.valueOf(start.plusSeconds(duration))
+                });
+                if (batch.size() >= properties.getBatchSize()) {
+                    flush(INSERT_USAGE_RECORD, batch, usageRecordCount);
+                }
+            }
+        }
+        flush(INSERT_USAGE_RECORD, batch, usageRecordCount);
+    }
+
+    private void flush(String sql, List<Object[]> batch, LongAdder counter) {
+        batchInsert(sql, batch);
+        counter.add(batch.size());
+        batch.clear();
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.diginest.aireceptionist.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Size and shape of the synthetic dataset written by {@link PerfDataGenerator}.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.perf-data")
+public class PerfDataProperties {
+
+    private int hotels = 1000;
+
+    private int minRoomsPerHotel = 20;
+
+    private int maxRoomsPerHotel = 120;
+
+    /** Days of booking history before today. */
+    private int historyDays = 365;
+
+    /** Days of future bookings after today. */
+    private int futureDays = 180;
+
+    /** Share of room-nights taken by live bookings. */
+    private double occupancy = 0.65;
+
+    private int meanStayNights = 3;
+
+    /** Share of bookings written as cancelled; their dates may overlap live bookings of the same room. */
+    private double cancellationRate = 0.08;
+
+    private int usageMonths = 6;
+
+    /** Average calls per hotel per day; each day's count varies by +/-50%. */
+    private int callsPerHotelPerDay = 20;
+
+    /** High enough that the generated usage leaves room for load tests against the current month. */
+    private int monthlyTokenLimit = 5_000_000;
+
+    /** Password of the generated hotel admins, perf-admin-{hotelId}@diginest.test. */
+    private String adminPassword = "PerfAdmin123!";
+
+    private int threads = 4;
+
+    private int batchSize = 1000;
+
+    private long seed = 42;
+}
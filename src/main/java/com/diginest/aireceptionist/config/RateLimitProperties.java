@@ -0,0 +1,34 @@
+package com.diginest.aireceptionist.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-hotel request limits by endpoint group. A request counts against the first group whose
+ * path patterns match it; requests matching no group are not limited.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private List<Group> groups = new ArrayList<>();
+
+    @Data
+    public static class Group {
+
+        private String name;
+
+        private List<String> pathPatterns = new ArrayList<>();
+
+        /** Requests a hotel may burst before being throttled. */
+        private int capacity;
+
+        /** Sustained requests per second per hotel. */
+        private double refillPerSecond;
+    }
+}
@@ -0,0 +1,157 @@
+package com.diginest.aireceptionist.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ * Routes read-only transactions to the configured replicas. The routing wraps the pool before the SQL
+ * instrumentation and connection limiter do, so replica statements are counted and limited like any other.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.read-replicas.enabled", havingValue = "true")
+@Slf4j
+public class ReadReplicaConfig {
+
+    private final ObjectProvider<DataSource> dataSources;
+
+    public ReadReplicaConfig(ObjectProvider<DataSource> dataSources) {
+        this.dataSources = dataSources;
+    }
+
+    @Bean
+    public static BeanPostProcessor readReplicaRoutingPostProcessor(Environment environment) {
+        ReadReplicaProperties properties = Binder.get(environment)
+                .bind("app.datasource.read-replicas", ReadReplicaProperties.class)
+                .orElseGet(ReadReplicaProperties::new);
+        return new RoutingPostProcessor(properties);
+    }
+
+    @Bean
+    public MeterBinder readReplicaMetrics() {
+        return registry -> routingDataSources().forEach(routing -> {
+            FunctionCounter.builder("datasource.replica.primary.reads", routing,
+                            ReadReplicaRoutingDataSource::getPrimaryReads)
+                    .description("Read-only transactions served by the primary")
+                    .register(registry);
+            for (ReadReplicaRoutingDataSource.Replica replica : routing.getReplicas()) {
+                Gauge.builder("datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                        .tag("replica", replica.getName())
+                        .description("1 while the replica takes reads, 0 while they fail over to the primary")
+                        .register(registry);
+                FunctionCounter.builder("datasource.replica.reads", replica,
+                                ReadReplicaRoutingDataSource.Replica::getReads)
+                        .tag("replica", replica.getName())
+                        .description("Read-only transactions served by the replica")
+                        .register(registry);
+                FunctionCounter.builder("datasource.replica.failures", replica,
+                                ReadReplicaRoutingDataSource.Replica::getFailures)
+                        .tag("replica", replica.getName())
+                        .description("Failed connection checkouts and health checks")
+                        .register(registry);
+                if (replica.getDataSource() instanceof HikariDataSource hikari && hikari.getMetricRegistry() == null) {
+                    hikari.setMetricRegistry(registry);
+                }
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.read-replicas.health-check-interval-ms:5000}")
+    public void checkReplicaHealth() {
+        routingDataSources().forEach(ReadReplicaRoutingDataSource::checkReplicas);
+    }
+
+    private Stream<ReadReplicaRoutingDataSource> routingDataSources() {
+        return dataSources.orderedStream()
+                .map(ReadReplicaConfig::unwrapRouting)
+                .filter(Objects::nonNull);
+    }
+
+    private static ReadReplicaRoutingDataSource unwrapRouting(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ReadReplicaRoutingDataSource.class)
+                    ? dataSource.unwrap(ReadReplicaRoutingDataSource.class)
+                    : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Ordered, so it runs ahead of the unordered instrumentation and limiter post-processors. Owns the
+     * replica pools it creates and closes them on shutdown.
+     */
+    private static class RoutingPostProcessor implements BeanPostProcessor, Ordered, DisposableBean {
+
+        private final ReadReplicaProperties properties;
+        private final List<HikariDataSource> pools = new CopyOnWriteArrayList<>();
+
+        RoutingPostProcessor(ReadReplicaProperties properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource primary) || unwrapRouting(primary) != null) {
+                return bean;
+            }
+            Map<String, DataSource> replicas = new LinkedHashMap<>();
+            for (ReadReplicaProperties.Replica replica : properties.getReplicas()) {
+                String name = replica.getName() != null ? replica.getName() : "replica-" + (replicas.size() + 1);
+                replicas.put(name, createPool(name, replica));
+            }
+            if (replicas.isEmpty()) {
+                log.warn("Read replicas enabled but none configured; datasource '{}' serves all reads", beanName);
+                return bean;
+            }
+            log.info("Routing read-only transactions on datasource '{}' to replicas {}", beanName, replicas.keySet());
+            return new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(primary, replicas,
+                    properties.getReadYourWritesWindowMs()));
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void destroy() {
+            pools.forEach(HikariDataSource::close);
+        }
+
+        private HikariDataSource createPool(String name, ReadReplicaProperties.Replica replica) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name);
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(replica.getUsername());
+            pool.setPassword(replica.getPassword());
+            pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+            pool.setConnectionTimeout(replica.getConnectionTimeoutMs());
+            pool.setReadOnly(true);
+            pools.add(pool);
+            return pool;
+        }
+    }
+}
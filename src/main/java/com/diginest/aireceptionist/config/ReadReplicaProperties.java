@@ -0,0 +1,39 @@
+package com.diginest.aireceptionist.config;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas that serve read-only transactions. Bound from {@code app.datasource.read-replicas}.
+ */
+@Data
+public class ReadReplicaProperties {
+
+    private boolean enabled;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    private long healthCheckIntervalMs = 5000;
+
+    /** How long a hotel's reads stay on the primary after it commits a write; 0 turns this off. */
+    private long readYourWritesWindowMs;
+
+    @Data
+    public static class Replica {
+
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 10;
+
+        /** Kept short, so a dead replica fails over quickly instead of stalling reads. */
+        private long connectionTimeoutMs = 2000;
+    }
+}
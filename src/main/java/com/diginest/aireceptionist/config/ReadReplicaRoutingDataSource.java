@@ -0,0 +1,189 @@
+package com.diginest.aireceptionist.config;
+
+import com.diginest.aireceptionist.security.jwt.JwtAuthenticationFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hands out replica connections to read-only transactions, round-robin over the replicas currently healthy,
+ * and primary connections to everything else. A replica that fails a checkout is marked down and the read
+ * falls back to the primary; {@link #checkReplicas()} brings it back once it answers again.
+ * <p>
+ * With a read-your-writes window, a hotel's reads stay on the primary for that long after one of its
+ * requests commits a read-write transaction, so a caller never reads around its own write through lag.
+ * <p>
+ * Must sit behind a {@code LazyConnectionDataSourceProxy}: the transaction is only flagged read-only
+ * after the transaction manager has asked for its connection.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends DelegatingDataSource {
+
+    private final List<Replica> replicas;
+    private final long readYourWritesWindowNanos;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ConcurrentMap<Long, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final LongAdder primaryReads = new LongAdder();
+
+    public ReadReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                        long readYourWritesWindowMs) {
+        super(primary);
+        this.replicas = replicas.entrySet().stream()
+                .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+                .toList();
+        this.readYourWritesWindowNanos = TimeUnit.MILLISECONDS.toNanos(readYourWritesWindowMs);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Long hotelId = currentHotelId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite(hotelId);
+            return obtainTargetDataSource().getConnection();
+        }
+        if (!recentlyWrote(hotelId)) {
+            for (int attempt = 0; attempt < replicas.size(); attempt++) {
+                Replica replica = replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+                if (!replica.healthy) {
+                    continue;
+                }
+                try {
+                    Connection connection = replica.dataSource.getConnection();
+                    replica.reads.increment();
+                    return connection;
+                } catch (SQLException ex) {
+                    replica.markDown(ex);
+                }
+            }
+        }
+        primaryReads.increment();
+        return obtainTargetDataSource().getConnection();
+    }
+
+    /**
+     * Validates every replica with a fresh connection, marking each up or down.
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(2)) {
+                    replica.markUp();
+                } else {
+                    replica.markDown(null);
+                }
+            } catch (SQLException ex) {
+                replica.markDown(ex);
+            }
+        }
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Read-only transactions served by the primary: no replica healthy, or inside a read-your-writes window.
+     */
+    public long getPrimaryReads() {
+        return primaryReads.sum();
+    }
+
+    private void trackWrite(Long hotelId) {
+        if (readYourWritesWindowNanos <= 0 || hotelId == null
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWriteNanos.put(hotelId, System.nanoTime());
+            }
+        });
+    }
+
+    private boolean recentlyWrote(Long hotelId) {
+        if (readYourWritesWindowNanos <= 0 || hotelId == null) {
+            return false;
+        }
+        Long lastWrite = lastWriteNanos.get(hotelId);
+        if (lastWrite == null) {
+            return false;
+        }
+        if (System.nanoTime() - lastWrite < readYourWritesWindowNanos) {
+            return true;
+        }
+        lastWriteNanos.remove(hotelId, lastWrite);
+        return false;
+    }
+
+    private static Long currentHotelId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                && attributes.getAttribute(JwtAuthenticationFilter.HOTEL_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                instanceof Long hotelId ? hotelId : null;
+    }
+
+    public static class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final LongAdder reads = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private volatile boolean healthy = true;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public DataSource getDataSource() {
+            return dataSource;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        public long getReads() {
+            return reads.sum();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        private void markDown(SQLException cause) {
+            failures.increment();
+            if (healthy) {
+                healthy = false;
+                log.warn("Read replica '{}' is down, routing its reads to the primary: {}", name,
+                        cause != null ? cause.getMessage() : "connection not valid");
+            }
+        }
+
+        private void markUp() {
+            if (!healthy) {
+                healthy = true;
+                log.info("Read replica '{}' is back", name);
+            }
+        }
+    }
+}
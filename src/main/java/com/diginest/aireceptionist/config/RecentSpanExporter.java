@@ -0,0 +1,78 @@
+package com.diginest.aireceptionist.config;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the most recent finished spans in memory for local runs and tests, so traces can be inspected
+ * through {@code /actuator/traces} without a collector. Oldest spans are dropped beyond the capacity.
+ */
+public class RecentSpanExporter implements SpanExporter {
+
+    private final int capacity;
+    private final Deque<RecordedSpan> spans = new ArrayDeque<>();
+
+    public RecentSpanExporter(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> batch) {
+        for (SpanData span : batch) {
+            if (spans.size() == capacity) {
+                spans.removeFirst();
+            }
+            spans.addLast(RecordedSpan.of(span));
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * @param traceId a trace to return spans for, or null for all retained spans
+     */
+    public synchronized List<RecordedSpan> getSpans(String traceId) {
+        return spans.stream()
+                .filter(span -> traceId == null || span.traceId().equals(traceId))
+                .toList();
+    }
+
+    public synchronized void clear() {
+        spans.clear();
+    }
+
+    public record RecordedSpan(String traceId, String spanId, String parentSpanId, String name,
+                               long startEpochMicros, long durationMicros, String status,
+                               Map<String, String> attributes) {
+
+        static RecordedSpan of(SpanData span) {
+            Map<String, String> attributes = new LinkedHashMap<>();
+            span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), String.valueOf(value)));
+            return new RecordedSpan(span.getTraceId(), span.getSpanId(),
+                    span.getParentSpanContext().isValid() ? span.getParentSpanId() : null,
+                    span.getName(),
+                    TimeUnit.NANOSECONDS.toMicros(span.getStartEpochNanos()),
+                    TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos()),
+                    span.getStatus().getStatusCode().name(),
+                    attributes);
+        }
+    }
+}
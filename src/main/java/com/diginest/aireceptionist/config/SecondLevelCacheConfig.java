@@ -0,0 +1,38 @@
+package com.diginest.aireceptionist.config;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.xml.XmlConfiguration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import javax.cache.Caching;
+import java.io.IOException;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Gives Hibernate's second-level cache a cache manager of its own, built from {@code ehcache.xml}. Hibernate
+ * closes the manager with the session factory; one looked up by URI alone would be shared by every
+ * application context in the JVM (e.g. test contexts on different databases) and closed under the others.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    /** hibernate-jcache's ConfigSettings.CACHE_MANAGER; that module is only on the runtime classpath. */
+    private static final String CACHE_MANAGER = "hibernate.javax.cache.cache_manager";
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheManager(
+            @Value("classpath:ehcache.xml") Resource ehcacheXml) throws IOException {
+        XmlConfiguration configuration = new XmlConfiguration(ehcacheXml.getURL());
+        return properties -> {
+            EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+                    EhcacheCachingProvider.class.getName());
+            URI uri = URI.create("urn:diginest:second-level-cache:" + UUID.randomUUID());
+            properties.put(CACHE_MANAGER, provider.getCacheManager(uri, configuration));
+        };
+    }
+}
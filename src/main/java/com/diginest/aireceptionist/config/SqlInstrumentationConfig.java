@@ -0,0 +1,54 @@
+package com.diginest.aireceptionist.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL instrumentation. The filter runs ahead of Spring Security, so the JWT filter's user
+ * lookup is counted against the request as well.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql-instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SqlInstrumentationConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlInstrumentationPostProcessor(
+            @Value("${app.sql-instrumentation.slow-query-threshold-ms:200}") long slowQueryThresholdMs,
+            @Value("${app.sql-instrumentation.trace-unprepared-sql:false}") boolean traceUnpreparedSql,
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof SqlInstrumentationDataSource) {
+                    return bean;
+                }
+                log.info("Instrumenting datasource '{}', logging statements slower than {} ms",
+                        beanName, slowQueryThresholdMs);
+                return new SqlInstrumentationDataSource(dataSource, slowQueryThresholdMs, traceUnpreparedSql,
+                        () -> observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlInstrumentationFilter> sqlInstrumentationFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.sql-instrumentation.debug-headers:false}") boolean debugHeaders) {
+        FilterRegistrationBean<SqlInstrumentationFilter> registration =
+                new FilterRegistrationBean<>(new SqlInstrumentationFilter(meterRegistry, debugHeaders));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
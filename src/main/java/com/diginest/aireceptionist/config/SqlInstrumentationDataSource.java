@@ -0,0 +1,219 @@
+package com.diginest.aireceptionist.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.temporal.Temporal;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Times every executed statement, adds it to the current request's {@link SqlRequestStats} and logs
+ * statements slower than the threshold with a summary of their bind parameters. Replaces Hibernate's
+ * show-sql, which logs every statement but says nothing about cost. Statements, commits and rollbacks
+ * are also observed, so they appear as spans under the service call that issued them. Spans carry the SQL
+ * of prepared statements, which holds placeholders only; bind values never leave this class except in the
+ * slow-query log.
+ */
+@Slf4j
+public class SqlInstrumentationDataSource extends DelegatingDataSource {
+
+    private static final int MAX_PARAMETER_CHARS = 24;
+    private static final Set<String> OPERATIONS = Set.of("select", "insert", "update", "delete", "merge");
+
+    private final long slowQueryThresholdNanos;
+    private final boolean traceUnpreparedSql;
+    private final Supplier<ObservationRegistry> observationRegistry;
+
+    /**
+     * @param traceUnpreparedSql  whether spans of plain (non-prepared) statements get their SQL, which may
+     *                            contain literal values
+     * @param observationRegistry looked up per connection rather than injected, since the datasource is
+     *                            wrapped before the observation infrastructure exists
+     */
+    public SqlInstrumentationDataSource(DataSource target, long slowQueryThresholdMs, boolean traceUnpreparedSql,
+                                        Supplier<ObservationRegistry> observationRegistry) {
+        super(target);
+        this.slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMs);
+        this.traceUnpreparedSql = traceUnpreparedSql;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return instrumented(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return instrumented(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection instrumented(Connection target) {
+        ObservationRegistry registry = observationRegistry.get();
+        return (Connection) Proxy.newProxyInstance(
+                SqlInstrumentationDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "createStatement":
+                            return statement(Statement.class, (Statement) invoke(target, method, args), null,
+                                    registry);
+                        case "prepareStatement":
+                            return statement(PreparedStatement.class, (Statement) invoke(target, method, args),
+                                    (String) args[0], registry);
+                        case "prepareCall":
+                            return statement(CallableStatement.class, (Statement) invoke(target, method, args),
+                                    (String) args[0], registry);
+                        case "commit":
+                        case "rollback":
+                            Observation transaction = Observation.createNotStarted("jdbc.transaction", registry)
+                                    .contextualName("jdbc " + method.getName())
+                                    .lowCardinalityKeyValue("db.operation", method.getName())
+                                    .start();
+                            try {
+                                return invoke(target, method, args);
+                            } catch (Throwable ex) {
+                                transaction.error(ex);
+                                throw ex;
+                            } finally {
+                                transaction.stop();
+                            }
+                        default:
+                            return invoke(target, method, args);
+                    }
+                });
+    }
+
+    private Statement statement(Class<? extends Statement> type, Statement target, String preparedSql,
+                                ObservationRegistry registry) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return (Statement) Proxy.newProxyInstance(
+                SqlInstrumentationDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    if (name.equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if (preparedSql != null && name.startsWith("set") && args != null && args.length >= 2
+                            && args[0] instanceof Integer index) {
+                        parameters.put(index, boundValue(name, args));
+                    } else if (name.equals("clearParameters")) {
+                        parameters.clear();
+                    }
+                    if (!name.startsWith("execute")) {
+                        return invoke(target, method, args);
+                    }
+
+                    String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                    String operation = operation(sql);
+                    Observation observation = Observation.createNotStarted("jdbc.statement", registry)
+                            .contextualName("jdbc " + operation)
+                            .lowCardinalityKeyValue("db.operation", operation);
+                    if (sql == null) {
+                        observation.highCardinalityKeyValue("db.statement", "batch");
+                    } else if (preparedSql != null || traceUnpreparedSql) {
+                        observation.highCardinalityKeyValue("db.statement", sql);
+                    }
+                    observation.start();
+                    long start = System.nanoTime();
+                    try {
+                        return invoke(target, method, args);
+                    } catch (Throwable ex) {
+                        observation.error(ex);
+                        throw ex;
+                    } finally {
+                        long elapsed = System.nanoTime() - start;
+                        observation.stop();
+                        SqlRequestStats.recordStatement(elapsed);
+                        if (elapsed >= slowQueryThresholdNanos && log.isWarnEnabled()) {
+                            log.warn("Slow query ({} ms): {} params={}", TimeUnit.NANOSECONDS.toMillis(elapsed),
+                                    sql, summarize(parameters));
+                        }
+                    }
+                });
+    }
+
+    /**
+     * The value passed to a {@code set*(int index, ...)} call. setNull's second argument is a
+     * {@link java.sql.Types} code and the trailing arguments of setObject, setCharacterStream and similar
+     * overloads are a type, length or calendar, so only the value slot is kept.
+     */
+    private static Object boundValue(String setter, Object[] args) {
+        return switch (setter) {
+            case "setNull" -> null;
+            default -> args[1];
+        };
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private static String operation(String sql) {
+        if (sql == null) {
+            return "batch";
+        }
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        String keyword = trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+        return OPERATIONS.contains(keyword) ? keyword : "other";
+    }
+
+    /**
+     * Values are truncated, so a slow query can be recognised without copying whole guest records into the log.
+     */
+    private static String summarize(Map<Integer, Object> parameters) {
+        return parameters.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + summarize(entry.getValue()))
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static String summarize(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof CharSequence text) {
+            return text.length() <= MAX_PARAMETER_CHARS
+                    ? "'" + text + "'"
+                    : "'" + text.subSequence(0, MAX_PARAMETER_CHARS) + "…'(" + text.length() + " chars)";
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Temporal
+                || value instanceof Date) {
+            return value.toString();
+        }
+        return value.getClass().getSimpleName();
+    }
+}
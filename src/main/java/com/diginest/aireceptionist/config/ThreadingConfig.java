@@ -0,0 +1,92 @@
+package com.diginest.aireceptionist.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tomcat, {@code @Async} and {@code @Scheduled} executors switch to virtual threads through
+ * {@code spring.threads.virtual.enabled}; this class adds the pool-aware connection limiter and its bulkheads.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+@Slf4j
+public class ThreadingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.datasource.concurrency-limit.enabled", havingValue = "true")
+    public static BeanPostProcessor connectionLimitingPostProcessor(
+            @Value("${app.datasource.concurrency-limit.max-permits:0}") int maxPermits,
+            @Value("${app.datasource.concurrency-limit.acquire-timeout-ms:0}") long acquireTimeoutMs,
+            Environment environment) {
+        Map<String, ConnectionBulkheadProperties> bulkheads = Binder.get(environment)
+                .bind("app.datasource.concurrency-limit.bulkheads",
+                        Bindable.mapOf(String.class, ConnectionBulkheadProperties.class))
+                .orElseGet(Map::of);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource) {
+                    return bean;
+                }
+                int permits = maxPermits;
+                long timeoutMs = acquireTimeoutMs;
+                // Unwrapped, since other post-processors (e.g. SQL instrumentation) may have wrapped the pool already
+                HikariDataSource hikari = unwrapHikari(dataSource);
+                if (hikari != null) {
+                    permits = permits > 0 ? permits : hikari.getMaximumPoolSize();
+                    timeoutMs = timeoutMs > 0 ? timeoutMs : hikari.getConnectionTimeout();
+                }
+                permits = permits > 0 ? permits : 10;
+                timeoutMs = timeoutMs > 0 ? timeoutMs : 30000;
+
+                // Named bulkheads are carved out of the pool; the default one keeps the rest
+                List<ConnectionLimitingDataSource.Bulkhead> partitions = new ArrayList<>();
+                int reserved = 0;
+                for (Map.Entry<String, ConnectionBulkheadProperties> entry : bulkheads.entrySet()) {
+                    ConnectionBulkheadProperties bulkhead = entry.getValue();
+                    int bulkheadPermits = Math.max(1, bulkhead.getMaxPermits());
+                    reserved += bulkheadPermits;
+                    partitions.add(new ConnectionLimitingDataSource.Bulkhead(entry.getKey(), bulkheadPermits,
+                            bulkhead.getAcquireTimeoutMs() > 0 ? bulkhead.getAcquireTimeoutMs() : timeoutMs));
+                }
+                int defaultPermits = Math.max(1, permits - reserved);
+                if (reserved + defaultPermits > permits) {
+                    log.warn("Bulkheads on datasource '{}' hold {} permits for a pool of {}; they will contend in the pool",
+                            beanName, reserved + defaultPermits, permits);
+                }
+                partitions.add(0, new ConnectionLimitingDataSource.Bulkhead(
+                        ConnectionLimitingDataSource.DEFAULT_BULKHEAD, defaultPermits, timeoutMs));
+                log.info("Limiting datasource '{}' to {} concurrent connections: {}", beanName,
+                        reserved + defaultPermits, partitions.stream()
+                                .map(bulkhead -> bulkhead.getName() + "=" + bulkhead.getMaxPermits())
+                                .toList());
+                return new ConnectionLimitingDataSource(dataSource, partitions);
+            }
+        };
+    }
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.diginest.aireceptionist.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Spans come from Boot's OpenTelemetry bridge: HTTP requests, the Spring Security filter chain, the JWT
+ * filter, {@code @Observed} services and JDBC statements. Incoming W3C and B3 headers from the voice gateway
+ * continue its trace. Spans go to OTLP when {@code management.otlp.tracing.endpoint} is set, and to the
+ * in-memory exporter below when it is enabled.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.tracing.in-memory-exporter.enabled", havingValue = "true")
+public class TracingConfig {
+
+    @Bean
+    public RecentSpanExporter recentSpanExporter(
+            @Value("${app.tracing.in-memory-exporter.capacity:1000}") int capacity) {
+        return new RecentSpanExporter(capacity);
+    }
+
+    @Bean
+    public RecentSpansEndpoint recentSpansEndpoint(RecentSpanExporter recentSpanExporter) {
+        return new RecentSpansEndpoint(recentSpanExporter);
+    }
+
+    /**
+     * {@code GET /actuator/traces[?traceId=]}: spans retained by the in-memory exporter.
+     */
+    @Endpoint(id = "traces")
+    public static class RecentSpansEndpoint {
+
+        private final RecentSpanExporter recentSpanExporter;
+
+        RecentSpansEndpoint(RecentSpanExporter recentSpanExporter) {
+            this.recentSpanExporter = recentSpanExporter;
+        }
+
+        @ReadOperation
+        public List<RecentSpanExporter.RecordedSpan> traces(@Nullable String traceId) {
+            return recentSpanExporter.getSpans(traceId);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.diginest.aireceptionist.config;
+
+import com.diginest.aireceptionist.service.HotelRateLimiter;
+import com.diginest.aireceptionist.service.HotelTrafficTracker;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+    private final RateLimitProperties rateLimitProperties;
+    private final HotelRateLimiter hotelRateLimiter;
+    private final HotelTrafficTracker hotelTrafficTracker;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HotelTrafficInterceptor(hotelTrafficTracker, rateLimitProperties));
+        if (rateLimitProperties.isEnabled()) {
+            registry.addInterceptor(new HotelRateLimitInterceptor(hotelRateLimiter, rateLimitProperties));
+        }
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Appended after the JSON converter so JSON stays the default for missing or wildcard Accept headers;
+        // built from Boot's builder so dates and modules match the JSON output
+        converters.removeIf(MappingJackson2CborHttpMessageConverter.class::isInstance);
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.factory(new CBORFactory()).build()));
+    }
+}
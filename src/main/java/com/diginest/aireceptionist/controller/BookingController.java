@@ -1,13 +1,25 @@
 package com.diginest.aireceptionist.controller;
 
+import com.diginest.aireceptionist.config.DatabaseBulkhead;
 import com.diginest.aireceptionist.dto.*;
+import com.diginest.aireceptionist.service.AvailabilityCoalescer;
 import com.diginest.aireceptionist.service.BookingService;
+import com.diginest.aireceptionist.security.jwt.JwtAuthenticationFilter;
+import com.diginest.aireceptionist.service.IdempotencyService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -15,20 +27,34 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BookingController {
 
+    // What the listing can be written as, in message converter order (CBOR is appended in WebConfig)
+    private static final List<MediaType> LISTING_TYPES =
+            List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR);
+
+    private final ContentNegotiationManager contentNegotiationManager;
     private final BookingService bookingService;
+    private final AvailabilityCoalescer availabilityCoalescer;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping("/check-availability")
     public ResponseEntity<AvailabilityResponse> checkAvailability(
             @Valid @RequestBody AvailabilityCheckRequest request) {
-        AvailabilityResponse response = bookingService.checkAvailability(request);
+        AvailabilityResponse response = availabilityCoalescer.checkAvailability(request);
         return ResponseEntity.ok(response);
     }
 
+    // The idempotent path opens its transaction here, ahead of the service
     @PostMapping("/create")
+    @DatabaseBulkhead("bookings")
     public ResponseEntity<BookingResponse> createBooking(
-            @Valid @RequestBody BookingCreateRequest request) {
-        BookingResponse response = bookingService.createBooking(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            @Valid @RequestBody BookingCreateRequest request,
+            @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestAttribute(value = JwtAuthenticationFilter.HOTEL_ID_ATTRIBUTE, required = false) Long callerHotelId) {
+        return idempotencyService.execute("booking-create", callerHotelId, idempotencyKey, request,
+                BookingResponse.class, () -> {
+                    BookingResponse response = bookingService.createBooking(request);
+                    return ResponseEntity.status(HttpStatus.CREATED).body(response);
+                });
     }
 
     @PutMapping("/modify/{id}")
@@ -47,8 +73,52 @@ public class BookingController {
 
     @GetMapping("/hotel/{hotelId}")
     public ResponseEntity<List<BookingResponse>> getBookingsByHotel(
-            @PathVariable Long hotelId) {
+            @PathVariable Long hotelId,
+            NativeWebRequest webRequest) throws HttpMediaTypeNotAcceptableException {
+        // Read the tag before the query: a mutation committing in between only makes the tag older, never newer
+        String eTag = bookingService.getBookingsETag(hotelId, representation(webRequest));
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+
         List<BookingResponse> bookings = bookingService.getBookingsByHotel(hotelId);
-        return ResponseEntity.ok(bookings);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(bookings);
+    }
+
+    // Archived (long finished) bookings; the listing above only covers the live table
+    @GetMapping("/hotel/{hotelId}/history")
+    public ResponseEntity<List<BookingResponse>> getBookingHistory(
+            @PathVariable Long hotelId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(bookingService.getBookingHistory(hotelId, page, size));
+    }
+
+    /**
+     * The representation the message converters will write, picked as they pick it: acceptable types
+     * (sorted by specificity) matched against the producible ones, sorted again, first concrete type wins.
+     */
+    private String representation(NativeWebRequest webRequest) throws HttpMediaTypeNotAcceptableException {
+        List<MediaType> compatible = new ArrayList<>();
+        for (MediaType requested : contentNegotiationManager.resolveMediaTypes(webRequest)) {
+            for (MediaType producible : LISTING_TYPES) {
+                if (requested.isCompatibleWith(producible)) {
+                    MediaType withQuality = producible.copyQualityValue(requested);
+                    compatible.add(requested.isLessSpecific(withQuality) ? withQuality : requested);
+                }
+            }
+        }
+        MimeTypeUtils.sortBySpecificity(compatible);
+        // No concrete match means a wildcard, which the JSON converter answers
+        return compatible.stream()
+                .filter(MediaType::isConcrete)
+                .findFirst()
+                .filter(MediaType.APPLICATION_CBOR::includes)
+                .map(type -> "cbor")
+                .orElse("json");
     }
 }
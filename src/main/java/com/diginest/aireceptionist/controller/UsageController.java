@@ -1,6 +1,10 @@
 package com.diginest.aireceptionist.controller;
 
+import com.diginest.aireceptionist.config.DatabaseBulkhead;
+import com.diginest.aireceptionist.config.OptimisticRetry;
 import com.diginest.aireceptionist.dto.*;
+import com.diginest.aireceptionist.security.jwt.JwtAuthenticationFilter;
+import com.diginest.aireceptionist.service.IdempotencyService;
 import com.diginest.aireceptionist.service.UsageService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
 public class UsageController {
 
     private final UsageService usageService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping("/start")
     public ResponseEntity<UsageResponse> startSession(@Valid @RequestBody UsageStartRequest request) {
@@ -24,14 +29,23 @@ public class UsageController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // The idempotent path opens its transaction here, ahead of the service, so it is also retried from here
     @PostMapping("/update")
-    public ResponseEntity<UsageResponse> updateUsage(@Valid @RequestBody UsageUpdateRequest request) {
-        UsageResponse response = usageService.updateTokenUsage(
-                request.getSessionId(),
-                request.getInputTokens(),
-                request.getOutputTokens()
-        );
-        return ResponseEntity.ok(response);
+    @DatabaseBulkhead("usage")
+    @OptimisticRetry
+    public ResponseEntity<UsageResponse> updateUsage(
+            @Valid @RequestBody UsageUpdateRequest request,
+            @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestAttribute(value = JwtAuthenticationFilter.HOTEL_ID_ATTRIBUTE, required = false) Long callerHotelId) {
+        return idempotencyService.execute("usage-update", callerHotelId, idempotencyKey, request,
+                UsageResponse.class, () -> {
+                    UsageResponse response = usageService.updateTokenUsage(
+                            request.getSessionId(),
+                            request.getInputTokens(),
+                            request.getOutputTokens()
+                    );
+                    return ResponseEntity.ok(response);
+                });
     }
 
     @PostMapping("/booking-attempt")
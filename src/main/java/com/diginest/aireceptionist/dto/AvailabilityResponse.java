@@ -1,10 +1,14 @@
 package com.diginest.aireceptionist.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class AvailabilityResponse {
 
     private boolean available;
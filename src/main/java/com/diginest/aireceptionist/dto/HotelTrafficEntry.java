@@ -0,0 +1,19 @@
+package com.diginest.aireceptionist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelTrafficEntry {
+
+    private Long hotelId;
+    private long requests;
+    private double requestsPerSecond;
+    private double meanLatencyMs;
+    private double maxLatencyMs;
+}
@@ -0,0 +1,20 @@
+package com.diginest.aireceptionist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelTrafficResponse {
+
+    private long windowSeconds;
+    private String group;
+    private List<HotelTrafficEntry> busiest;
+    private List<HotelTrafficEntry> slowest;
+}
@@ -2,8 +2,10 @@ package com.diginest.aireceptionist.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 @AllArgsConstructor
 public class JwtResponse {
     private String token;
@@ -1,5 +1,6 @@
 package com.diginest.aireceptionist.entity;
 
+import com.diginest.aireceptionist.repository.BookingRepository;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -12,7 +13,7 @@ import java.time.LocalDateTime;
 @Table(name = "bookings")
 @Getter
 @Setter
-public class Booking extends BaseEntity {
+public class Booking extends BaseEntity implements BookingRepository.BookingView {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "hotel_id", insertable = false, updatable = false)
@@ -46,6 +47,11 @@ public class Booking extends BaseEntity {
     @Column(name = "confirmed_at")
     private LocalDateTime confirmedAt;
 
+    // Checked by modify/cancel in place of a row lock
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     public enum Status {
         PENDING,
         CONFIRMED,
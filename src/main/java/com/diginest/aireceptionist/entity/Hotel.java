@@ -1,11 +1,16 @@
 package com.diginest.aireceptionist.entity;
 
+import com.diginest.aireceptionist.service.HotelMetadataInvalidator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "hotels")
+@EntityListeners(HotelMetadataInvalidator.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "hotels")
 @Getter
 @Setter
 public class Hotel {
@@ -3,11 +3,14 @@ package com.diginest.aireceptionist.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 
 @Entity
 @Table(name = "room_types")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "room-types")
 @Getter
 @Setter
 public class RoomType extends BaseEntity {
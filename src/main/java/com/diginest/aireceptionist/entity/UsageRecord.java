@@ -1,5 +1,6 @@
 package com.diginest.aireceptionist.entity;
 
+import com.diginest.aireceptionist.repository.UsageRecordRepository;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -10,7 +11,7 @@ import java.time.LocalDateTime;
 @Table(name = "usage_records")
 @Getter
 @Setter
-public class UsageRecord extends BaseEntity {
+public class UsageRecord extends BaseEntity implements UsageRecordRepository.UsageRecordView {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "hotel_id", insertable = false, updatable = false)
@@ -44,6 +45,11 @@ public class UsageRecord extends BaseEntity {
     @Column(nullable = false)
     private Status status = Status.ACTIVE;
 
+    // Token counters are read-modify-write: a stale copy fails at commit rather than losing the other update
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     public enum Status {
         ACTIVE,
         COMPLETED
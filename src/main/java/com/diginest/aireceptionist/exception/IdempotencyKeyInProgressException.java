@@ -0,0 +1,7 @@
+package com.diginest.aireceptionist.exception;
+
+public class IdempotencyKeyInProgressException extends RuntimeException {
+    public IdempotencyKeyInProgressException(String message) {
+        super(message);
+    }
+}
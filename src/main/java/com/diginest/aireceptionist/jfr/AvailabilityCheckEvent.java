@@ -0,0 +1,28 @@
+package com.diginest.aireceptionist.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.diginest.AvailabilityCheck")
+@Label("Availability Check")
+@Category({"DigiNest", "Bookings"})
+@Description("Overlap lookup for one room and date range; the event duration is the lookup time")
+@StackTrace(false)
+public class AvailabilityCheckEvent extends Event {
+
+    @Label("Hotel Id")
+    public long hotelId;
+
+    @Label("Room Number")
+    public String roomNumber;
+
+    @Label("Nights")
+    public int nights;
+
+    @Label("Available")
+    public boolean available;
+}
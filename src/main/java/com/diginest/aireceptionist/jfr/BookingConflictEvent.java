@@ -0,0 +1,31 @@
+package com.diginest.aireceptionist.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.diginest.BookingConflict")
+@Label("Booking Conflict")
+@Category({"DigiNest", "Bookings"})
+@Description("Booking create or modify rejected because the room is taken for the requested dates")
+@StackTrace(false)
+public class BookingConflictEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Hotel Id")
+    public long hotelId;
+
+    @Label("Room Number")
+    public String roomNumber;
+
+    @Label("Nights")
+    public int nights;
+
+    @Label("Conflicting Bookings")
+    public int conflictingBookings;
+}
@@ -0,0 +1,22 @@
+package com.diginest.aireceptionist.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.diginest.JwtAuthentication")
+@Label("JWT Authentication")
+@Category({"DigiNest", "Security"})
+@Description("Token validation and user lookup in the JWT filter")
+@StackTrace(false)
+public class JwtAuthenticationEvent extends Event {
+
+    @Label("Authenticated")
+    public boolean authenticated;
+
+    @Label("Hotel Id")
+    public long hotelId;
+}
@@ -0,0 +1,31 @@
+package com.diginest.aireceptionist.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.diginest.QuotaCheck")
+@Label("Token Quota Check")
+@Category({"DigiNest", "Usage"})
+@Description("Monthly token quota decision for a usage update; the event duration covers the usage lookups")
+@StackTrace(false)
+public class QuotaCheckEvent extends Event {
+
+    @Label("Hotel Id")
+    public long hotelId;
+
+    @Label("Current Month Usage")
+    public long currentUsage;
+
+    @Label("Requested Tokens")
+    public long requestedTokens;
+
+    @Label("Monthly Limit")
+    public long limit;
+
+    @Label("Allowed")
+    public boolean allowed;
+}
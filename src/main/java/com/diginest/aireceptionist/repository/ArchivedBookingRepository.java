@@ -0,0 +1,31 @@
+package com.diginest.aireceptionist.repository;
+
+import com.diginest.aireceptionist.entity.ArchivedBooking;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ArchivedBookingRepository extends JpaRepository<ArchivedBooking, Long> {
+
+    /**
+     * Copies the given bookings into the archive as they are; the caller deletes them from
+     * {@code bookings} in the same transaction.
+     */
+    @Modifying
+    @Query("INSERT INTO ArchivedBooking (id, hotelId, guestName, guestEmail, guestPhone, checkInDate, checkOutDate, " +
+           "roomNumber, totalAmount, status, confirmedAt, createdAt, updatedAt, archivedAt) " +
+           "SELECT b.id, b.hotelId, b.guestName, b.guestEmail, b.guestPhone, b.checkInDate, b.checkOutDate, " +
+           "b.roomNumber, b.totalAmount, b.status, b.confirmedAt, b.createdAt, b.updatedAt, :archivedAt " +
+           "FROM Booking b WHERE b.id IN :ids")
+    int copyFromBookings(@Param("ids") List<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /** History listing, most recent stays first; columns only. */
+    List<BookingRepository.BookingView> findByHotelIdOrderByCheckOutDateDesc(Long hotelId, Pageable pageable);
+}
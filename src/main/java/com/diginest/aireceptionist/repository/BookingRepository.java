@@ -1,32 +1,97 @@
 package com.diginest.aireceptionist.repository;
 
 import com.diginest.aireceptionist.entity.Booking;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
-    @Query("SELECT b FROM Booking b WHERE b.hotelId = :hotelId AND b.roomNumber = :roomNumber " +
+    /**
+     * Whether a live booking of the room overlaps the stay. {@code excludeId} is the booking being moved
+     * (it cannot conflict with itself), or null.
+     */
+    @Query("SELECT CASE WHEN EXISTS (SELECT 1 FROM Booking b WHERE b.hotelId = :hotelId " +
+           "AND b.roomNumber = :roomNumber " +
            "AND b.status NOT IN ('CANCELLED') " +
-           "AND (:checkIn < b.checkOutDate AND :checkOut > b.checkInDate)")
-    List<Booking> findOverlappingBookings(@Param("hotelId") Long hotelId,
-                                          @Param("roomNumber") String roomNumber,
-                                          @Param("checkIn") LocalDate checkIn,
-                                          @Param("checkOut") LocalDate checkOut);
+           "AND (:checkIn < b.checkOutDate AND :checkOut > b.checkInDate) " +
+           "AND (:excludeId IS NULL OR b.id <> :excludeId)) THEN true ELSE false END")
+    boolean existsOverlappingBooking(@Param("hotelId") Long hotelId,
+                                     @Param("roomNumber") String roomNumber,
+                                     @Param("checkIn") LocalDate checkIn,
+                                     @Param("checkOut") LocalDate checkOut,
+                                     @Param("excludeId") Long excludeId);
 
-    @Query("SELECT b FROM Booking b WHERE b.hotelId = :hotelId " +
-           "AND b.status NOT IN ('CANCELLED', 'CHECKED_OUT') " +
-           "ORDER BY b.checkInDate ASC")
-    List<Booking> findActiveBookingsByHotelId(@Param("hotelId") Long hotelId);
+    @Query("SELECT COUNT(b) FROM Booking b WHERE b.hotelId = :hotelId " +
+           "AND b.roomNumber = :roomNumber " +
+           "AND b.status NOT IN ('CANCELLED') " +
+           "AND (:checkIn < b.checkOutDate AND :checkOut > b.checkInDate) " +
+           "AND (:excludeId IS NULL OR b.id <> :excludeId)")
+    long countOverlappingBookings(@Param("hotelId") Long hotelId,
+                                  @Param("roomNumber") String roomNumber,
+                                  @Param("checkIn") LocalDate checkIn,
+                                  @Param("checkOut") LocalDate checkOut,
+                                  @Param("excludeId") Long excludeId);
+
+    /** Read-only listing; columns only, no managed entities. */
+    List<BookingView> findViewsByHotelIdOrderByCreatedAtDesc(Long hotelId);
+
+    /**
+     * Finished bookings (e.g. checked out or cancelled) that left before {@code checkOutBefore}, oldest
+     * first, for {@code BookingArchiver} to move in batches.
+     */
+    @Query("SELECT b.id FROM Booking b WHERE b.status IN :statuses AND b.checkOutDate < :checkOutBefore " +
+           "ORDER BY b.id ASC")
+    List<Long> findArchivableIds(@Param("statuses") Collection<Booking.Status> statuses,
+                                 @Param("checkOutBefore") LocalDate checkOutBefore,
+                                 Limit limit);
+
+    @Query("SELECT DISTINCT b.hotelId FROM Booking b WHERE b.id IN :ids")
+    List<Long> findHotelIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Booking b WHERE b.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Booking columns served by the endpoints; list queries project onto it and {@link Booking} implements it.
+     */
+    interface BookingView {
+
+        Long getId();
+
+        Long getHotelId();
+
+        String getGuestName();
+
+        String getGuestEmail();
+
+        String getGuestPhone();
+
+        LocalDate getCheckInDate();
+
+        LocalDate getCheckOutDate();
+
+        String getRoomNumber();
+
+        BigDecimal getTotalAmount();
+
+        Booking.Status getStatus();
+
+        LocalDateTime getConfirmedAt();
 
-    List<Booking> findByHotelIdOrderByCreatedAtDesc(Long hotelId);
+        LocalDateTime getCreatedAt();
 
-    boolean existsByHotelIdAndRoomNumberAndStatusNotAndCheckInDateLessThanAndCheckOutDateGreaterThan(
-            Long hotelId, String roomNumber, Booking.Status status, LocalDate checkOut, LocalDate checkIn);
+        LocalDateTime getUpdatedAt();
+    }
 }
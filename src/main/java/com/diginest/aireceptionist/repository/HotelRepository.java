@@ -1,9 +1,39 @@
 package com.diginest.aireceptionist.repository;
 
 import com.diginest.aireceptionist.entity.Hotel;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface HotelRepository extends JpaRepository<Hotel, Long> {
+
+    /**
+     * Row lock held until commit; serializes the booking overlap check-then-write sequences of one hotel.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM Hotel h WHERE h.id = :id")
+    Optional<Hotel> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Hotel facts cached by {@code HotelMetadataCache}.
+     */
+    @Query("SELECT h.id AS id, h.monthlyTokenLimit AS monthlyTokenLimit FROM Hotel h WHERE h.id = :id")
+    Optional<HotelMetadataView> findMetadataById(@Param("id") Long id);
+
+    @Query("SELECT h.id AS id, h.monthlyTokenLimit AS monthlyTokenLimit FROM Hotel h")
+    List<HotelMetadataView> findAllMetadata();
+
+    interface HotelMetadataView {
+
+        Long getId();
+
+        Integer getMonthlyTokenLimit();
+    }
 }
@@ -1,7 +1,10 @@
 package com.diginest.aireceptionist.repository;
 
 import com.diginest.aireceptionist.entity.RoomType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,6 +12,10 @@ import java.util.Optional;
 @Repository
 public interface RoomTypeRepository extends JpaRepository<RoomType, Long> {
 
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "room-type-queries")
+    })
     Optional<RoomType> findByHotelIdAndName(Long hotelId, String name);
 
     boolean existsByHotelIdAndNameAndIsActiveTrue(Long hotelId, String name);
@@ -2,6 +2,7 @@ package com.diginest.aireceptionist.repository;
 
 import com.diginest.aireceptionist.entity.UsageRecord;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,9 +17,80 @@ public interface UsageRecordRepository extends JpaRepository<UsageRecord, Long>
 
     boolean existsBySessionId(String sessionId);
 
+    /**
+     * Locks the session's usage row and its hotel's row until commit and returns the record's columns. The
+     * hotel lock serializes quota checks for the hotel; reading the record under it keeps concurrent updates
+     * to one session from failing each other's version check.
+     */
+    @Query(value = "SELECT u.id AS id, u.hotel_id AS hotelId, u.session_id AS sessionId, " +
+                   "u.call_start_time AS callStartTime, u.call_end_time AS callEndTime, " +
+                   "u.duration_seconds AS durationSeconds, u.input_tokens AS inputTokens, " +
+                   "u.output_tokens AS outputTokens, u.total_tokens AS totalTokens, " +
+                   "u.booking_attempts AS bookingAttempts, u.status AS status " +
+                   "FROM usage_records u JOIN hotels h ON h.id = u.hotel_id " +
+                   "WHERE u.session_id = :sessionId FOR UPDATE", nativeQuery = true)
+    Optional<LockedUsageRecord> lockBySessionId(@Param("sessionId") String sessionId);
+
+    /**
+     * Adds the tokens unless the hotel's usage since {@code startOfMonth} would then exceed {@code limit};
+     * returns 0 when it would. The sum is only current while the hotel row is locked ({@link #lockBySessionId}).
+     * Bumps the version, so entity copies loaded earlier fail their optimistic check instead of overwriting
+     * the counters.
+     */
+    @Modifying
+    @Query("UPDATE UsageRecord u SET u.inputTokens = u.inputTokens + :inputTokens, " +
+           "u.outputTokens = u.outputTokens + :outputTokens, " +
+           "u.totalTokens = u.totalTokens + :newTokens, " +
+           "u.version = u.version + 1, u.updatedAt = :updatedAt " +
+           "WHERE u.id = :id " +
+           "AND (SELECT COALESCE(SUM(x.totalTokens), 0) FROM UsageRecord x " +
+           "WHERE x.hotelId = u.hotelId AND x.callStartTime >= :startOfMonth) + :newTokens <= :limit")
+    int addTokensWithinLimit(@Param("id") Long id,
+                             @Param("inputTokens") int inputTokens,
+                             @Param("outputTokens") int outputTokens,
+                             @Param("newTokens") int newTokens,
+                             @Param("startOfMonth") LocalDateTime startOfMonth,
+                             @Param("limit") int limit,
+                             @Param("updatedAt") LocalDateTime updatedAt);
+
     @Query("SELECT COALESCE(SUM(u.totalTokens), 0) FROM UsageRecord u " +
            "WHERE u.hotelId = :hotelId " +
            "AND u.callStartTime >= :startOfMonth")
     Integer sumTotalTokensByHotelIdAndDateAfter(@Param("hotelId") Long hotelId,
                                                 @Param("startOfMonth") LocalDateTime startOfMonth);
+
+    /**
+     * Usage record columns served by the endpoints; {@link UsageRecord} implements it.
+     */
+    interface UsageRecordView {
+
+        Long getId();
+
+        Long getHotelId();
+
+        String getSessionId();
+
+        LocalDateTime getCallStartTime();
+
+        LocalDateTime getCallEndTime();
+
+        Long getDurationSeconds();
+
+        Integer getInputTokens();
+
+        Integer getOutputTokens();
+
+        Integer getTotalTokens();
+
+        Integer getBookingAttempts();
+
+        UsageRecord.Status getStatus();
+    }
+
+    /**
+     * What {@link #lockBySessionId} projects onto. Its own type, because Spring Data reads an interface the
+     * entity implements as the entity rather than as a projection.
+     */
+    interface LockedUsageRecord extends UsageRecordView {
+    }
 }
@@ -1,5 +1,9 @@
 package com.diginest.aireceptionist.security.jwt;
 
+import com.diginest.aireceptionist.jfr.JwtAuthenticationEvent;
+import io.jsonwebtoken.Claims;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,29 +24,52 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // A literal so controllers can name it in @RequestAttribute
+    public static final String HOTEL_ID_ATTRIBUTE =
+            "com.diginest.aireceptionist.security.jwt.JwtAuthenticationFilter.hotelId";
+
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsService userDetailsService;
+    private final ObservationRegistry observationRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        try {
-            String jwt = getJwtFromRequest(request);
+        String jwt = getJwtFromRequest(request);
+        if (StringUtils.hasText(jwt)) {
+            // Own span, so token validation and the user lookup show up apart from the rest of the chain
+            Observation.createNotStarted("jwt.authentication", observationRegistry)
+                    .observe(() -> authenticate(request, jwt));
+        }
+
+        filterChain.doFilter(request, response);
+    }
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+    private void authenticate(HttpServletRequest request, String jwt) {
+        JwtAuthenticationEvent event = new JwtAuthenticationEvent();
+        event.begin();
+        try {
+            if (tokenProvider.validateToken(jwt)) {
+                Claims claims = tokenProvider.getClaimsFromToken(jwt);
+                UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+
+                Long hotelId = claims.get(JwtTokenProvider.HOTEL_ID_CLAIM, Long.class);
+                if (hotelId != null) {
+                    request.setAttribute(HOTEL_ID_ATTRIBUTE, hotelId);
+                    event.hotelId = hotelId;
+                }
+                event.authenticated = true;
             }
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
+        } finally {
+            event.commit();
         }
-
-        filterChain.doFilter(request, response);
     }
 
     private String getJwtFromRequest(HttpServletRequest request) {
@@ -5,6 +5,7 @@ import com.diginest.aireceptionist.entity.User;
 import com.diginest.aireceptionist.exception.BookingValidationException;
 import com.diginest.aireceptionist.repository.UserRepository;
 import com.diginest.aireceptionist.security.jwt.JwtTokenProvider;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Observed(name = "service.invocations")
 @RequiredArgsConstructor
 public class AuthService {
 
@@ -33,10 +35,10 @@ public class AuthService {
         );
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        String jwt = tokenProvider.generateToken(authentication);
 
         User user = userRepository.findByEmail(loginRequest.getEmail())
                 .orElseThrow(() -> new RuntimeException("User not found"));
+        String jwt = tokenProvider.generateToken(authentication, user.getHotelId());
 
         return new JwtResponse(
                 jwt,
@@ -0,0 +1,100 @@
+package com.diginest.aireceptionist.service;
+
+import com.diginest.aireceptionist.dto.AvailabilityCheckRequest;
+import com.diginest.aireceptionist.dto.AvailabilityResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Single-flight wrapper around {@link BookingService#checkAvailability}: identical lookups that arrive
+ * while one is in flight wait for its result instead of issuing their own query. The hotel's booking
+ * version is part of the key, so a lookup arriving after a committed mutation never joins an older query.
+ */
+@Component
+public class AvailabilityCoalescer {
+
+    private final BookingService bookingService;
+    private final HotelBookingVersions hotelBookingVersions;
+    private final ConcurrentMap<LookupKey, CompletableFuture<AvailabilityResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executedLookups;
+    private final Counter coalescedLookups;
+
+    public AvailabilityCoalescer(BookingService bookingService,
+                                 HotelBookingVersions hotelBookingVersions,
+                                 MeterRegistry meterRegistry) {
+        this.bookingService = bookingService;
+        this.hotelBookingVersions = hotelBookingVersions;
+        this.executedLookups = Counter.builder("booking.availability.lookups")
+                .description("Availability lookups, by whether they ran a query or joined one in flight")
+                .tag("coalesced", "false")
+                .register(meterRegistry);
+        this.coalescedLookups = Counter.builder("booking.availability.lookups")
+                .description("Availability lookups, by whether they ran a query or joined one in flight")
+                .tag("coalesced", "true")
+                .register(meterRegistry);
+        Gauge.builder("booking.availability.collapse.ratio", this, AvailabilityCoalescer::getCollapseRatio)
+                .description("Share of availability lookups served by another caller's query")
+                .register(meterRegistry);
+    }
+
+    public AvailabilityResponse checkAvailability(AvailabilityCheckRequest request) {
+        LookupKey key = new LookupKey(
+                request.getHotelId(),
+                request.getRoomNumber(),
+                request.getCheckInDate(),
+                request.getCheckOutDate(),
+                hotelBookingVersions.currentVersion(request.getHotelId())
+        );
+
+        CompletableFuture<AvailabilityResponse> lookup = new CompletableFuture<>();
+        CompletableFuture<AvailabilityResponse> existing = inFlight.putIfAbsent(key, lookup);
+        if (existing != null) {
+            coalescedLookups.increment();
+            return await(existing);
+        }
+
+        executedLookups.increment();
+        try {
+            AvailabilityResponse response = bookingService.checkAvailability(request);
+            lookup.complete(response);
+            return response;
+        } catch (RuntimeException | Error ex) {
+            lookup.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, lookup);
+        }
+    }
+
+    public double getCollapseRatio() {
+        double coalesced = coalescedLookups.count();
+        double total = coalesced + executedLookups.count();
+        return total == 0 ? 0.0 : coalesced / total;
+    }
+
+    private static AvailabilityResponse await(CompletableFuture<AvailabilityResponse> lookup) {
+        try {
+            return lookup.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private record LookupKey(Long hotelId, String roomNumber, LocalDate checkInDate, LocalDate checkOutDate,
+                             long bookingVersion) {
+    }
+}
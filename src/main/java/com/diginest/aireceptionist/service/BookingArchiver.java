@@ -0,0 +1,102 @@
+package com.diginest.aireceptionist.service;
+
+import com.diginest.aireceptionist.config.DatabaseBulkhead;
+import com.diginest.aireceptionist.entity.Booking;
+import com.diginest.aireceptionist.repository.ArchivedBookingRepository;
+import com.diginest.aireceptionist.repository.BookingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Moves checked-out and cancelled bookings whose stay ended more than {@code app.booking-archive.horizon-days}
+ * ago from {@code bookings} to {@code bookings_archive}, keeping the table that overlap checks and listings
+ * scan down to live reservations and recent history. Each batch is copied and deleted in its own transaction,
+ * so a failure leaves every booking in exactly one of the two tables.
+ */
+@Component
+@DatabaseBulkhead("admin")
+@Slf4j
+public class BookingArchiver {
+
+    private static final Set<Booking.Status> FINISHED = EnumSet.of(Booking.Status.CHECKED_OUT, Booking.Status.CANCELLED);
+
+    private final BookingRepository bookingRepository;
+    private final ArchivedBookingRepository archivedBookingRepository;
+    private final HotelBookingVersions hotelBookingVersions;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int horizonDays;
+    private final int batchSize;
+    private final Counter archived;
+
+    public BookingArchiver(BookingRepository bookingRepository,
+                           ArchivedBookingRepository archivedBookingRepository,
+                           HotelBookingVersions hotelBookingVersions,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.booking-archive.enabled:true}") boolean enabled,
+                           @Value("${app.booking-archive.horizon-days:90}") int horizonDays,
+                           @Value("${app.booking-archive.batch-size:500}") int batchSize) {
+        this.bookingRepository = bookingRepository;
+        this.archivedBookingRepository = archivedBookingRepository;
+        this.hotelBookingVersions = hotelBookingVersions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.horizonDays = horizonDays;
+        this.batchSize = batchSize;
+        this.archived = Counter.builder("booking.archive.moved")
+                .description("Bookings moved to the archive table")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.booking-archive.interval-ms:3600000}",
+            initialDelayString = "${app.booking-archive.interval-ms:3600000}")
+    public void archiveOnSchedule() {
+        if (enabled) {
+            archive();
+        }
+    }
+
+    /**
+     * Archives everything currently past the horizon; returns the number of bookings moved.
+     */
+    public int archive() {
+        LocalDate checkOutBefore = LocalDate.now().minusDays(horizonDays);
+        int total = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> archiveBatch(checkOutBefore));
+            total += moved;
+        } while (moved == batchSize);
+        if (total > 0) {
+            log.info("Archived {} bookings that checked out before {}", total, checkOutBefore);
+        }
+        return total;
+    }
+
+    private int archiveBatch(LocalDate checkOutBefore) {
+        List<Long> ids = bookingRepository.findArchivableIds(FINISHED, checkOutBefore, Limit.of(batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // The hotels' listings lose these rows, so their ETags must change
+        bookingRepository.findHotelIdsByIdIn(ids).forEach(hotelBookingVersions::bump);
+        archivedBookingRepository.copyFromBookings(ids, LocalDateTime.now());
+        int deleted = bookingRepository.deleteByIdIn(ids);
+        archived.increment(deleted);
+        return deleted;
+    }
+}
@@ -1,42 +1,67 @@
 package com.diginest.aireceptionist.service;
 
+import com.diginest.aireceptionist.config.DatabaseBulkhead;
+import com.diginest.aireceptionist.config.OptimisticRetry;
 import com.diginest.aireceptionist.dto.*;
 import com.diginest.aireceptionist.entity.Booking;
 import com.diginest.aireceptionist.entity.Hotel;
 import com.diginest.aireceptionist.exception.BookingValidationException;
 import com.diginest.aireceptionist.exception.ResourceNotFoundException;
 import com.diginest.aireceptionist.exception.RoomUnavailableException;
+import com.diginest.aireceptionist.jfr.AvailabilityCheckEvent;
+import com.diginest.aireceptionist.jfr.BookingConflictEvent;
+import com.diginest.aireceptionist.repository.ArchivedBookingRepository;
 import com.diginest.aireceptionist.repository.BookingRepository;
 import com.diginest.aireceptionist.repository.HotelRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Observed(name = "service.invocations")
+@DatabaseBulkhead("bookings")
 @RequiredArgsConstructor
 public class BookingService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 200;
+
     private final BookingRepository bookingRepository;
+    private final ArchivedBookingRepository archivedBookingRepository;
     private final HotelRepository hotelRepository;
+    private final HotelMetadataCache hotelMetadataCache;
+    private final HotelBookingVersions hotelBookingVersions;
+    private final MeterRegistry meterRegistry;
 
     @Transactional(readOnly = true)
     public AvailabilityResponse checkAvailability(AvailabilityCheckRequest request) {
+        AvailabilityCheckEvent event = new AvailabilityCheckEvent();
+        event.begin();
         validateHotelExists(request.getHotelId());
         validateDateOrder(request.getCheckInDate(), request.getCheckOutDate());
 
-        List<Booking> overlapping = bookingRepository.findOverlappingBookings(
+        boolean available = !bookingRepository.existsOverlappingBooking(
                 request.getHotelId(),
                 request.getRoomNumber(),
                 request.getCheckInDate(),
-                request.getCheckOutDate()
+                request.getCheckOutDate(),
+                null
         );
-
-        boolean available = overlapping.isEmpty();
+        if (event.shouldCommit()) {
+            event.hotelId = request.getHotelId();
+            event.roomNumber = request.getRoomNumber();
+            event.nights = nights(request.getCheckInDate(), request.getCheckOutDate());
+            event.available = available;
+            event.commit();
+        }
 
         return AvailabilityResponse.builder()
                 .available(available)
@@ -48,18 +73,19 @@ public class BookingService {
 
     @Transactional
     public BookingResponse createBooking(BookingCreateRequest request) {
-        validateHotelExists(request.getHotelId());
+        lockHotel(request.getHotelId());
         validateDateOrder(request.getCheckInDate(), request.getCheckOutDate());
         validateNotInPast(request.getCheckInDate());
 
-        List<Booking> overlapping = bookingRepository.findOverlappingBookings(
+        if (bookingRepository.existsOverlappingBooking(
                 request.getHotelId(),
                 request.getRoomNumber(),
                 request.getCheckInDate(),
-                request.getCheckOutDate()
-        );
-
-        if (!overlapping.isEmpty()) {
+                request.getCheckOutDate(),
+                null)) {
+            meterRegistry.counter("booking.conflicts", "operation", "create").increment();
+            recordConflict("create", request.getHotelId(), request.getRoomNumber(),
+                    request.getCheckInDate(), request.getCheckOutDate(), null);
             throw new RoomUnavailableException("Room " + request.getRoomNumber() + " is already booked for the selected dates");
         }
 
@@ -76,9 +102,11 @@ public class BookingService {
         booking.setConfirmedAt(LocalDateTime.now());
 
         Booking saved = bookingRepository.save(booking);
+        hotelBookingVersions.bump(saved.getHotelId());
         return mapToResponse(saved);
     }
 
+    @OptimisticRetry
     @Transactional
     public BookingResponse modifyBooking(Long id, BookingModifyRequest request) {
         Booking booking = bookingRepository.findById(id)
@@ -105,15 +133,16 @@ public class BookingService {
             validateNotInPast(newCheckIn);
 
             if (!newCheckIn.equals(booking.getCheckInDate()) || !newCheckOut.equals(booking.getCheckOutDate())) {
-                List<Booking> overlapping = bookingRepository.findOverlappingBookings(
+                lockHotel(booking.getHotelId());
+                if (bookingRepository.existsOverlappingBooking(
                         booking.getHotelId(),
                         booking.getRoomNumber(),
                         newCheckIn,
-                        newCheckOut
-                );
-                overlapping.removeIf(b -> b.getId().equals(id));
-
-                if (!overlapping.isEmpty()) {
+                        newCheckOut,
+                        id)) {
+                    meterRegistry.counter("booking.conflicts", "operation", "modify").increment();
+                    recordConflict("modify", booking.getHotelId(), booking.getRoomNumber(),
+                            newCheckIn, newCheckOut, id);
                     throw new RoomUnavailableException("Room is already booked for the new dates");
                 }
 
@@ -131,9 +160,11 @@ public class BookingService {
         }
 
         Booking saved = bookingRepository.save(booking);
+        hotelBookingVersions.bump(saved.getHotelId());
         return mapToResponse(saved);
     }
 
+    @OptimisticRetry
     @Transactional
     public void cancelBooking(Long id) {
         Booking booking = bookingRepository.findById(id)
@@ -141,24 +172,76 @@ public class BookingService {
 
         booking.setStatus(Booking.Status.CANCELLED);
         bookingRepository.save(booking);
+        hotelBookingVersions.bump(booking.getHotelId());
     }
 
+    public String getBookingsETag(Long hotelId, String representation) {
+        return hotelBookingVersions.currentETag(hotelId, representation);
+    }
+
+    // Staff listing, heavy for large hotels; kept off the permits the voice calls rely on
+    @DatabaseBulkhead("admin")
     @Transactional(readOnly = true)
     public List<BookingResponse> getBookingsByHotel(Long hotelId) {
         validateHotelExists(hotelId);
 
-        return bookingRepository.findByHotelIdOrderByCreatedAtDesc(hotelId)
+        return bookingRepository.findViewsByHotelIdOrderByCreatedAtDesc(hotelId)
                 .stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
-    private void validateHotelExists(Long hotelId) {
-        if (!hotelRepository.existsById(hotelId)) {
-            throw new ResourceNotFoundException("Hotel", "id", hotelId);
+    /**
+     * Bookings moved out of the live table by {@link BookingArchiver}, most recent stays first.
+     */
+    @DatabaseBulkhead("admin")
+    @Transactional(readOnly = true)
+    public List<BookingResponse> getBookingHistory(Long hotelId, int page, int size) {
+        validateHotelExists(hotelId);
+
+        PageRequest pageRequest = PageRequest.of(page, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        return archivedBookingRepository.findByHotelIdOrderByCheckOutDateDesc(hotelId, pageRequest)
+                .stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The overlap check only asks whether a conflict exists; the conflicting bookings are counted
+     * only when the event is actually recorded.
+     */
+    private void recordConflict(String operation, Long hotelId, String roomNumber,
+                                LocalDate checkIn, LocalDate checkOut, Long excludeId) {
+        BookingConflictEvent event = new BookingConflictEvent();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.hotelId = hotelId;
+            event.roomNumber = roomNumber;
+            event.nights = nights(checkIn, checkOut);
+            event.conflictingBookings = (int) bookingRepository.countOverlappingBookings(
+                    hotelId, roomNumber, checkIn, checkOut, excludeId);
+            event.commit();
         }
     }
 
+    private static int nights(LocalDate checkIn, LocalDate checkOut) {
+        return (int) ChronoUnit.DAYS.between(checkIn, checkOut);
+    }
+
+    /**
+     * Overlap checks and the writes they guard run under the hotel's row lock, so two requests can
+     * never both see a room as free and book it. Concurrent changes to the same booking are caught by
+     * its version instead.
+     */
+    private void lockHotel(Long hotelId) {
+        hotelRepository.findByIdForUpdate(hotelId)
+                .orElseThrow(() -> new ResourceNotFoundException("Hotel", "id", hotelId));
+    }
+
+    private void validateHotelExists(Long hotelId) {
+        hotelMetadataCache.require(hotelId);
+    }
+
     private void validateDateOrder(LocalDate checkIn, LocalDate checkOut) {
         if (!checkOut.isAfter(checkIn)) {
             throw new BookingValidationException("Check-out date must be after check-in date");
@@ -171,7 +254,7 @@ public class BookingService {
         }
     }
 
-    private BookingResponse mapToResponse(Booking booking) {
+    private BookingResponse mapToResponse(BookingRepository.BookingView booking) {
         return BookingResponse.builder()
                 .id(booking.getId())
                 .hotelId(booking.getHotelId())
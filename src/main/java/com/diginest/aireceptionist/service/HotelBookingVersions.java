@@ -0,0 +1,61 @@
+package com.diginest.aireceptionist.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-hotel counter of booking mutations, used as a strong ETag for the hotel bookings listing.
+ * Counters live in this instance only; the startup epoch in the tag keeps a restarted instance
+ * from ever matching a tag handed out before the restart. Only committed mutations create a counter;
+ * reads of a hotel without one see version 0, so lookups for unknown hotels leave the map alone.
+ */
+@Component
+public class HotelBookingVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ConcurrentMap<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public long currentVersion(Long hotelId) {
+        AtomicLong counter = versions.get(hotelId);
+        return counter == null ? 0 : counter.get();
+    }
+
+    /**
+     * The representation (e.g. "json", "cbor") is part of the tag, since a strong ETag must
+     * differ between byte-wise different encodings of the same listing.
+     */
+    public String currentETag(Long hotelId, String representation) {
+        return "\"" + epoch + "-" + hotelId + "-" + currentVersion(hotelId) + "-" + representation + "\"";
+    }
+
+    /**
+     * Bumps once the surrounding transaction commits, so a concurrent read can never pair
+     * pre-commit data with the new tag.
+     */
+    public void bump(Long hotelId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(hotelId);
+                }
+            });
+        } else {
+            increment(hotelId);
+        }
+    }
+
+    /** Hotels with a counter, i.e. with a committed booking mutation since startup. */
+    public int size() {
+        return versions.size();
+    }
+
+    private void increment(Long hotelId) {
+        versions.computeIfAbsent(hotelId, id -> new AtomicLong()).incrementAndGet();
+    }
+}
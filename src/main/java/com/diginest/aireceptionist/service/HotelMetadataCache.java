@@ -0,0 +1,120 @@
+package com.diginest.aireceptionist.service;
+
+import com.diginest.aireceptionist.exception.ResourceNotFoundException;
+import com.diginest.aireceptionist.repository.HotelRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hotel facts checked on nearly every request, kept in memory: existence and the monthly token limit.
+ * Filled for all hotels at startup and on demand after that. Entries are dropped when a hotel changes
+ * through JPA ({@link HotelMetadataInvalidator}), and expire
+ * after {@code app.hotel-cache.ttl-ms} so changes made elsewhere (another instance, plain SQL) still show up.
+ * Unknown hotels are not cached.
+ */
+@Component
+@Slf4j
+public class HotelMetadataCache {
+
+    public record HotelMetadata(Long id, int monthlyTokenLimit) {
+    }
+
+    private record Entry(HotelMetadata metadata, long loadedAtNanos) {
+    }
+
+    private final HotelRepository hotelRepository;
+    private final long ttlNanos;
+    private final boolean warmUp;
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public HotelMetadataCache(HotelRepository hotelRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.hotel-cache.ttl-ms:300000}") long ttlMs,
+                              @Value("${app.hotel-cache.warm-up:true}") boolean warmUp) {
+        this.hotelRepository = hotelRepository;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.warmUp = warmUp;
+        this.hits = Counter.builder("hotel.metadata.lookups")
+                .description("Hotel metadata lookups, by whether they were answered from memory")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("hotel.metadata.lookups")
+                .description("Hotel metadata lookups, by whether they were answered from memory")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("hotel.metadata.cached", entries, ConcurrentMap::size)
+                .description("Hotels currently cached")
+                .register(meterRegistry);
+    }
+
+    public HotelMetadata require(Long hotelId) {
+        return find(hotelId).orElseThrow(() -> new ResourceNotFoundException("Hotel", "id", hotelId));
+    }
+
+    public Optional<HotelMetadata> find(Long hotelId) {
+        Entry entry = entries.get(hotelId);
+        if (entry != null && System.nanoTime() - entry.loadedAtNanos() < ttlNanos) {
+            hits.increment();
+            return Optional.of(entry.metadata());
+        }
+        misses.increment();
+        Optional<HotelMetadata> loaded = hotelRepository.findMetadataById(hotelId).map(HotelMetadataCache::toMetadata);
+        loaded.ifPresentOrElse(metadata -> entries.put(hotelId, new Entry(metadata, System.nanoTime())),
+                () -> entries.remove(hotelId));
+        return loaded;
+    }
+
+    /**
+     * Drops the hotel now and again once the surrounding transaction completes, so a reader that
+     * reloads it from pre-commit data in between does not keep the stale copy.
+     */
+    public void invalidate(Long hotelId) {
+        if (hotelId == null) {
+            return;
+        }
+        entries.remove(hotelId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    entries.remove(hotelId);
+                }
+            });
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!warmUp) {
+            return;
+        }
+        long now = System.nanoTime();
+        hotelRepository.findAllMetadata().forEach(view ->
+                entries.put(view.getId(), new Entry(toMetadata(view), now)));
+        log.info("Cached metadata for {} hotels", entries.size());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static HotelMetadata toMetadata(HotelRepository.HotelMetadataView view) {
+        return new HotelMetadata(view.getId(),
+                view.getMonthlyTokenLimit() != null ? view.getMonthlyTokenLimit() : 0);
+    }
+}
@@ -0,0 +1,28 @@
+package com.diginest.aireceptionist.service;
+
+import com.diginest.aireceptionist.entity.Hotel;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * JPA listener on {@link Hotel} that keeps {@link HotelMetadataCache} in step with changes saved through
+ * the entity manager. Created by Hibernate through Spring, hence the lazy lookup: the cache needs
+ * repositories that are not ready while the entity manager factory is being built.
+ */
+public class HotelMetadataInvalidator {
+
+    private final ObjectProvider<HotelMetadataCache> hotelMetadataCache;
+
+    public HotelMetadataInvalidator(ObjectProvider<HotelMetadataCache> hotelMetadataCache) {
+        this.hotelMetadataCache = hotelMetadataCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Hotel hotel) {
+        hotelMetadataCache.ifAvailable(cache -> cache.invalidate(hotel.getId()));
+    }
+}
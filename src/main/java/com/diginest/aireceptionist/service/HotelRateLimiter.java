@@ -0,0 +1,72 @@
+package com.diginest.aireceptionist.service;
+
+import com.diginest.aireceptionist.config.RateLimitProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets per (endpoint group, hotel). Each bucket is one {@link AtomicLong} updated by CAS,
+ * so admitting a request costs a map lookup and a compare-and-set, with no locks. Rejections are counted
+ * through {@link HotelTrafficTracker}, which only gives the busiest hotels their own series.
+ */
+@Component
+@Slf4j
+public class HotelRateLimiter {
+
+    private final HotelTrafficTracker hotelTrafficTracker;
+    private final ConcurrentMap<String, ConcurrentMap<Long, TokenBucket>> buckets = new ConcurrentHashMap<>();
+
+    public HotelRateLimiter(HotelTrafficTracker hotelTrafficTracker) {
+        this.hotelTrafficTracker = hotelTrafficTracker;
+    }
+
+    /**
+     * @return 0 if the request is admitted, otherwise the nanoseconds until the hotel's next token
+     */
+    public long tryAcquire(RateLimitProperties.Group group, Long hotelId) {
+        TokenBucket bucket = buckets
+                .computeIfAbsent(group.getName(), name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(hotelId, id -> new TokenBucket(group.getCapacity(), group.getRefillPerSecond()));
+        long waitNanos = bucket.tryAcquire(System.nanoTime());
+        if (waitNanos > 0) {
+            log.debug("Rate limited hotel {} on {}", hotelId, group.getName());
+            hotelTrafficTracker.recordRejection(hotelId, group.getName());
+        }
+        return waitNanos;
+    }
+
+    /**
+     * Token bucket in its GCRA form: instead of a token count it tracks the theoretical arrival time of
+     * the next request, which makes the whole state a single long.
+     */
+    static final class TokenBucket {
+
+        private final long emissionIntervalNanos;
+        private final long burstToleranceNanos;
+        private final AtomicLong theoreticalArrival;
+
+        TokenBucket(int capacity, double refillPerSecond) {
+            this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+            this.burstToleranceNanos = emissionIntervalNanos * capacity;
+            this.theoreticalArrival = new AtomicLong(System.nanoTime());
+        }
+
+        long tryAcquire(long now) {
+            while (true) {
+                long current = theoreticalArrival.get();
+                long next = Math.max(current, now) + emissionIntervalNanos;
+                long excess = next - now - burstToleranceNanos;
+                if (excess > 0) {
+                    return excess;
+                }
+                if (theoreticalArrival.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.diginest.aireceptionist.service;
+
+import com.diginest.aireceptionist.dto.HotelTrafficEntry;
+import com.diginest.aireceptionist.dto.HotelTrafficResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Per-hotel request counts and latency by endpoint group. Meters carry a {@code hotel} tag only for the
+ * top-K hotels by requests in the sliding window; every other hotel is folded into {@code hotel="other"},
+ * so the number of series stays bounded however many hotels there are. Rate-limit rejections are tagged the
+ * same way. The window itself keeps exact
+ * per-hotel figures for the hotels active in it, which back the busiest/slowest listing.
+ */
+@Component
+@Slf4j
+public class HotelTrafficTracker {
+
+    static final String METER_NAME = "hotel.requests";
+    static final String REJECTIONS_METER_NAME = "hotel.rate.limit.rejections";
+    static final String OTHER_HOTELS = "other";
+    // Fixed Prometheus buckets like the other latency timers, with exact boundaries at the latency targets
+    private static final Duration[] LATENCY_SLOS = {
+            Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1)};
+
+    private final MeterRegistry meterRegistry;
+    private final int topK;
+    private final int bucketCount;
+    private final long bucketNanos;
+    private final ConcurrentMap<WindowKey, SlidingWindow> windows = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<Long, Timer>> hotelTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Timer> otherTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<Long, Counter>> hotelRejections = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> otherRejections = new ConcurrentHashMap<>();
+    private volatile Set<Long> topHotels = ConcurrentHashMap.newKeySet();
+
+    public HotelTrafficTracker(MeterRegistry meterRegistry,
+                               @Value("${app.hotel-metrics.top-k:20}") int topK,
+                               @Value("${app.hotel-metrics.window-seconds:300}") long windowSeconds,
+                               @Value("${app.hotel-metrics.window-buckets:10}") int bucketCount) {
+        this.meterRegistry = meterRegistry;
+        this.topK = topK;
+        this.bucketCount = bucketCount;
+        this.bucketNanos = TimeUnit.SECONDS.toNanos(windowSeconds) / bucketCount;
+    }
+
+    public void record(Long hotelId, String group, long latencyNanos) {
+        long slot = currentSlot();
+        windows.computeIfAbsent(new WindowKey(hotelId, group), key -> new SlidingWindow(bucketCount))
+                .record(slot, latencyNanos);
+        timer(hotelId, group).record(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts a request turned away by the rate limiter, under the hotel's own tag while it ranks in the top K
+     * and under "other" otherwise.
+     */
+    public void recordRejection(Long hotelId, String group) {
+        Counter counter = isTracked(hotelId)
+                ? hotelRejections.computeIfAbsent(group, name -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(hotelId, id -> newRejectionCounter(group, id.toString()))
+                : otherRejections.computeIfAbsent(group, name -> newRejectionCounter(group, OTHER_HOTELS));
+        counter.increment();
+    }
+
+    public long getWindowSeconds() {
+        return TimeUnit.NANOSECONDS.toSeconds(bucketNanos * bucketCount);
+    }
+
+    /**
+     * @param group endpoint group to report on, or null to combine all groups per hotel
+     */
+    public HotelTrafficResponse snapshot(String group, int limit) {
+        List<HotelTrafficEntry> entries = totals(group).entrySet().stream()
+                .map(entry -> entry.getValue().toEntry(entry.getKey(), getWindowSeconds()))
+                .toList();
+        return HotelTrafficResponse.builder()
+                .windowSeconds(getWindowSeconds())
+                .group(group)
+                .busiest(entries.stream()
+                        .sorted(Comparator.comparingLong(HotelTrafficEntry::getRequests).reversed())
+                        .limit(limit)
+                        .toList())
+                .slowest(entries.stream()
+                        .sorted(Comparator.comparingDouble(HotelTrafficEntry::getMeanLatencyMs).reversed())
+                        .limit(limit)
+                        .toList())
+                .build();
+    }
+
+    /**
+     * Re-ranks hotels once per bucket: drops windows that have gone idle, keeps the K busiest hotels as
+     * tagged series and removes the meters of hotels that fell out, whose traffic counts as "other" from now on.
+     */
+    @Scheduled(fixedRateString = "#{${app.hotel-metrics.window-seconds:300} * 1000 / ${app.hotel-metrics.window-buckets:10}}")
+    public void refreshTopHotels() {
+        long slot = currentSlot();
+        windows.entrySet().removeIf(entry -> entry.getValue().isIdle(slot));
+
+        Set<Long> ranked = totals(null).entrySet().stream()
+                .sorted(Map.Entry.<Long, Totals>comparingByValue(Comparator.comparingLong(Totals::requests)).reversed())
+                .limit(topK)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(ConcurrentHashMap::newKeySet));
+        topHotels = ranked;
+
+        removeUnranked(hotelTimers, ranked);
+        removeUnranked(hotelRejections, ranked);
+        log.debug("Tracking {} hotels individually, {} windows active", ranked.size(), windows.size());
+    }
+
+    private void removeUnranked(Map<String, ? extends Map<Long, ? extends Meter>> meters, Set<Long> ranked) {
+        meters.values().forEach(byHotel -> byHotel.entrySet().removeIf(entry -> {
+            if (ranked.contains(entry.getKey())) {
+                return false;
+            }
+            meterRegistry.remove(entry.getValue());
+            return true;
+        }));
+    }
+
+    private boolean isTracked(Long hotelId) {
+        Set<Long> current = topHotels;
+        // Until the first re-ranking fills the set, hotels are admitted first come, first served
+        return current.contains(hotelId) || (current.size() < topK && current.add(hotelId));
+    }
+
+    private Timer timer(Long hotelId, String group) {
+        if (isTracked(hotelId)) {
+            return hotelTimers.computeIfAbsent(group, name -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(hotelId, id -> newTimer(group, id.toString()));
+        }
+        return otherTimers.computeIfAbsent(group, name -> newTimer(group, OTHER_HOTELS));
+    }
+
+    private Timer newTimer(String group, String hotel) {
+        return Timer.builder(METER_NAME)
+                .description("Authenticated API requests per hotel (top hotels only) and endpoint group")
+                .tags("group", group, "hotel", hotel)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(LATENCY_SLOS)
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+
+    private Counter newRejectionCounter(String group, String hotel) {
+        return Counter.builder(REJECTIONS_METER_NAME)
+                .description("Requests rejected by the per-hotel rate limit (top hotels only) by endpoint group")
+                .tags("group", group, "hotel", hotel)
+                .register(meterRegistry);
+    }
+
+    private Map<Long, Totals> totals(String group) {
+        long slot = currentSlot();
+        Map<Long, Totals> totals = new HashMap<>();
+        windows.forEach((key, window) -> {
+            if (group == null || group.equals(key.group())) {
+                Totals sum = window.totals(slot);
+                if (sum.requests() > 0) {
+                    totals.merge(key.hotelId(), sum, Totals::plus);
+                }
+            }
+        });
+        return totals;
+    }
+
+    private long currentSlot() {
+        return Math.floorDiv(System.nanoTime(), bucketNanos);
+    }
+
+    private record WindowKey(Long hotelId, String group) {
+    }
+
+    record Totals(long requests, long totalNanos, long maxNanos) {
+
+        Totals plus(Totals other) {
+            return new Totals(requests + other.requests, totalNanos + other.totalNanos,
+                    Math.max(maxNanos, other.maxNanos));
+        }
+
+        HotelTrafficEntry toEntry(Long hotelId, long windowSeconds) {
+            return HotelTrafficEntry.builder()
+                    .hotelId(hotelId)
+                    .requests(requests)
+                    .requestsPerSecond((double) requests / windowSeconds)
+                    .meanLatencyMs(totalNanos / 1e6 / requests)
+                    .maxLatencyMs(maxNanos / 1e6)
+                    .build();
+        }
+    }
+
+    /**
+     * Ring of time buckets; a bucket is reset the first time it is written in a new slot. Writes for one
+     * (hotel, group) are serialised on the window, which only contends with that hotel's own traffic.
+     */
+    static final class SlidingWindow {
+
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private final long[] slots;
+        private final long[] requests;
+        private final long[] totalNanos;
+        private final long[] maxNanos;
+
+        SlidingWindow(int bucketCount) {
+            slots = new long[bucketCount];
+            requests = new long[bucketCount];
+            totalNanos = new long[bucketCount];
+            maxNanos = new long[bucketCount];
+            Arrays.fill(slots, EMPTY);
+        }
+
+        synchronized void record(long slot, long latencyNanos) {
+            int i = (int) Math.floorMod(slot, (long) slots.length);
+            if (slots[i] != slot) {
+                slots[i] = slot;
+                requests[i] = 0;
+                totalNanos[i] = 0;
+                maxNanos[i] = 0;
+            }
+            requests[i]++;
+            totalNanos[i] += latencyNanos;
+            maxNanos[i] = Math.max(maxNanos[i], latencyNanos);
+        }
+
+        synchronized Totals totals(long currentSlot) {
+            long count = 0;
+            long total = 0;
+            long max = 0;
+            for (int i = 0; i < slots.length; i++) {
+                if (isLive(slots[i], currentSlot)) {
+                    count += requests[i];
+                    total += totalNanos[i];
+                    max = Math.max(max, maxNanos[i]);
+                }
+            }
+            return new Totals(count, total, max);
+        }
+
+        synchronized boolean isIdle(long currentSlot) {
+            for (long slot : slots) {
+                if (isLive(slot, currentSlot)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isLive(long slot, long currentSlot) {
+            return slot != EMPTY && currentSlot - slot < slots.length;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.diginest.aireceptionist.service;
+
+import com.diginest.aireceptionist.entity.IdempotencyRecord;
+import com.diginest.aireceptionist.exception.IdempotencyKeyInProgressException;
+import com.diginest.aireceptionist.exception.IdempotencyKeyReuseException;
+import com.diginest.aireceptionist.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Replays the stored response for a repeated {@code Idempotency-Key} instead of re-running the operation.
+ * The key row is written in the operation's own transaction, so of two attempts racing on one key exactly
+ * one commits; recent keys are also kept in a bounded in-memory LRU to skip the database on hot retries.
+ * Keys are namespaced by operation and by the caller's hotel, so tenants that happen to pick the same key
+ * never see each other's responses.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Map<String, StoredResponse> recentResponses;
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              @Value("${app.idempotency.ttl-ms:86400000}") long ttlMs,
+                              @Value("${app.idempotency.cache-size:10000}") int cacheSize) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.recentResponses = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * @param callerHotelId the hotel of the authenticated caller (the token's hotelId claim)
+     */
+    public <T> ResponseEntity<T> execute(String operation, Long callerHotelId, String idempotencyKey, Object request,
+                                         Class<T> responseType, Supplier<ResponseEntity<T>> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    IDEMPOTENCY_KEY_HEADER + " must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+        if (callerHotelId == null) {
+            throw new IllegalArgumentException(IDEMPOTENCY_KEY_HEADER + " requires a token issued for a hotel");
+        }
+        String scope = operation + ':' + callerHotelId;
+
+        String requestHash = hash(request);
+        StoredResponse stored = lookup(scope, idempotencyKey);
+        if (stored != null) {
+            return replay(stored, requestHash, responseType);
+        }
+
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+        try {
+            ResponseEntity<T> response = transactionTemplate.execute(status -> {
+                ResponseEntity<T> result = action.get();
+                IdempotencyRecord record = new IdempotencyRecord();
+                record.setScope(scope);
+                record.setIdempotencyKey(idempotencyKey);
+                record.setRequestHash(requestHash);
+                record.setResponseStatus(result.getStatusCode().value());
+                record.setResponseBody(toJson(result.getBody()));
+                record.setExpiresAt(expiresAt);
+                idempotencyRecordRepository.saveAndFlush(record);
+                return result;
+            });
+            recentResponses.put(cacheKey(scope, idempotencyKey), new StoredResponse(
+                    requestHash, response.getStatusCode().value(), toJson(response.getBody()), expiresAt));
+            return response;
+        } catch (RuntimeException ex) {
+            // A concurrent attempt with the same key may have committed first, failing this one on the
+            // key's unique constraint or on its own effects (e.g. the room it just booked)
+            StoredResponse winner = lookup(scope, idempotencyKey);
+            if (winner != null) {
+                return replay(winner, requestHash, responseType);
+            }
+            if (ex instanceof DataIntegrityViolationException) {
+                throw new IdempotencyKeyInProgressException(
+                        "A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed");
+            }
+            throw ex;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.cleanup-interval-ms:600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        recentResponses.values().removeIf(stored -> stored.expiresAt().isBefore(now));
+        int purged = idempotencyRecordRepository.deleteExpired(now);
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private StoredResponse lookup(String scope, String idempotencyKey) {
+        LocalDateTime now = LocalDateTime.now();
+        String cacheKey = cacheKey(scope, idempotencyKey);
+
+        StoredResponse cached = recentResponses.get(cacheKey);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            return cached;
+        }
+
+        IdempotencyRecord record = idempotencyRecordRepository.findByScopeAndIdempotencyKey(scope, idempotencyKey)
+                .orElse(null);
+        if (record == null) {
+            return null;
+        }
+        if (!record.getExpiresAt().isAfter(now)) {
+            // Free the key now rather than waiting for the next purge, so this request can claim it
+            idempotencyRecordRepository.delete(record);
+            recentResponses.remove(cacheKey);
+            return null;
+        }
+
+        StoredResponse stored = new StoredResponse(record.getRequestHash(), record.getResponseStatus(),
+                record.getResponseBody(), record.getExpiresAt());
+        recentResponses.put(cacheKey, stored);
+        return stored;
+    }
+
+    private <T> ResponseEntity<T> replay(StoredResponse stored, String requestHash, Class<T> responseType) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReuseException(
+                    IDEMPOTENCY_KEY_HEADER + " was already used with a different request");
+        }
+        try {
+            return ResponseEntity.status(stored.status())
+                    .header(REPLAYED_HEADER, "true")
+                    .body(objectMapper.readValue(stored.body(), responseType));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Stored idempotent response could not be read", ex);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Request could not be fingerprinted", ex);
+        }
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Response could not be stored", ex);
+        }
+    }
+
+    private static String cacheKey(String scope, String idempotencyKey) {
+        return scope + ':' + idempotencyKey;
+    }
+
+    private record StoredResponse(String requestHash, int status, String body, LocalDateTime expiresAt) {
+    }
+}
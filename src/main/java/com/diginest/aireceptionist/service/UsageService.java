@@ -1,12 +1,15 @@
 package com.diginest.aireceptionist.service;
 
+import com.diginest.aireceptionist.config.DatabaseBulkhead;
+import com.diginest.aireceptionist.config.OptimisticRetry;
 import com.diginest.aireceptionist.dto.*;
-import com.diginest.aireceptionist.entity.Hotel;
 import com.diginest.aireceptionist.entity.UsageRecord;
 import com.diginest.aireceptionist.exception.ResourceNotFoundException;
 import com.diginest.aireceptionist.exception.UsageLimitExceededException;
-import com.diginest.aireceptionist.repository.HotelRepository;
+import com.diginest.aireceptionist.jfr.QuotaCheckEvent;
 import com.diginest.aireceptionist.repository.UsageRecordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,11 +20,14 @@ import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
 
 @Service
+@Observed(name = "service.invocations")
+@DatabaseBulkhead("usage")
 @RequiredArgsConstructor
 public class UsageService {
 
     private final UsageRecordRepository usageRecordRepository;
-    private final HotelRepository hotelRepository;
+    private final HotelMetadataCache hotelMetadataCache;
+    private final MeterRegistry meterRegistry;
 
     @Transactional
     public UsageResponse startSession(Long hotelId, String sessionId) {
@@ -47,7 +53,8 @@ public class UsageService {
 
     @Transactional
     public UsageResponse updateTokenUsage(String sessionId, Integer inputTokens, Integer outputTokens) {
-        UsageRecord record = usageRecordRepository.findBySessionId(sessionId)
+        // Locked before the record is read, so concurrent updates for the hotel queue here
+        UsageRecordRepository.LockedUsageRecord record = usageRecordRepository.lockBySessionId(sessionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Usage record", "sessionId", sessionId));
 
         if (record.getStatus() == UsageRecord.Status.COMPLETED) {
@@ -55,22 +62,38 @@ public class UsageService {
         }
 
         int newTokens = inputTokens + outputTokens;
-        int currentMonthUsage = getCurrentMonthTokenUsage(record.getHotelId());
-        Hotel hotel = hotelRepository.findById(record.getHotelId())
-                .orElseThrow(() -> new ResourceNotFoundException("Hotel", "id", record.getHotelId()));
+        int limit = hotelMetadataCache.require(record.getHotelId()).monthlyTokenLimit();
+        LocalDateTime startOfMonth = startOfMonth();
+        QuotaCheckEvent quotaCheck = new QuotaCheckEvent();
+        quotaCheck.begin();
+        // The update sums the month itself; a separate sum is only worth it while the event is recorded
+        int currentMonthUsage = quotaCheck.isEnabled()
+                ? usageRecordRepository.sumTotalTokensByHotelIdAndDateAfter(record.getHotelId(), startOfMonth)
+                : 0;
+        boolean allowed = usageRecordRepository.addTokensWithinLimit(record.getId(), inputTokens, outputTokens,
+                newTokens, startOfMonth, limit, LocalDateTime.now()) > 0;
+        if (quotaCheck.shouldCommit()) {
+            quotaCheck.hotelId = record.getHotelId();
+            quotaCheck.currentUsage = currentMonthUsage;
+            quotaCheck.requestedTokens = newTokens;
+            quotaCheck.limit = limit;
+            quotaCheck.allowed = allowed;
+            quotaCheck.commit();
+        }
 
-        if (currentMonthUsage + newTokens > hotel.getMonthlyTokenLimit()) {
+        if (!allowed) {
+            meterRegistry.counter("usage.quota.exceeded").increment();
             throw new UsageLimitExceededException("USAGE_LIMIT_EXCEEDED");
         }
 
-        record.setInputTokens(record.getInputTokens() + inputTokens);
-        record.setOutputTokens(record.getOutputTokens() + outputTokens);
-        record.setTotalTokens(record.getTotalTokens() + newTokens);
-
-        UsageRecord saved = usageRecordRepository.save(record);
-        return mapToResponse(saved);
+        UsageResponse response = mapToResponse(record);
+        response.setInputTokens(record.getInputTokens() + inputTokens);
+        response.setOutputTokens(record.getOutputTokens() + outputTokens);
+        response.setTotalTokens(record.getTotalTokens() + newTokens);
+        return response;
     }
 
+    @OptimisticRetry
     @Transactional
     public UsageResponse incrementBookingAttempt(String sessionId) {
         UsageRecord record = usageRecordRepository.findBySessionId(sessionId)
@@ -85,6 +108,7 @@ public class UsageService {
         return mapToResponse(saved);
     }
 
+    @OptimisticRetry
     @Transactional
     public UsageResponse endSession(String sessionId) {
         UsageRecord record = usageRecordRepository.findBySessionId(sessionId)
@@ -106,17 +130,18 @@ public class UsageService {
     @Transactional(readOnly = true)
     public Integer getCurrentMonthTokenUsage(Long hotelId) {
         validateHotelExists(hotelId);
-        LocalDateTime startOfMonth = LocalDate.now().withDayOfMonth(1).atStartOfDay();
-        return usageRecordRepository.sumTotalTokensByHotelIdAndDateAfter(hotelId, startOfMonth);
+        return usageRecordRepository.sumTotalTokensByHotelIdAndDateAfter(hotelId, startOfMonth());
+    }
+
+    private static LocalDateTime startOfMonth() {
+        return LocalDate.now().withDayOfMonth(1).atStartOfDay();
     }
 
     private void validateHotelExists(Long hotelId) {
-        if (!hotelRepository.existsById(hotelId)) {
-            throw new ResourceNotFoundException("Hotel", "id", hotelId);
-        }
+        hotelMetadataCache.require(hotelId);
     }
 
-    private UsageResponse mapToResponse(UsageRecord record) {
+    private UsageResponse mapToResponse(UsageRecordRepository.UsageRecordView record) {
         return UsageResponse.builder()
                 .id(record.getId())
                 .hotelId(record.getHotelId())
@@ -0,0 +1,114 @@
+-- Tables as mapped by the JPA entities; Hibernate only validates against them (ddl-auto: validate).
+-- Portable across PostgreSQL and H2. Indexes for the hot queries are per database in V2.
+
+CREATE TABLE hotels (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name                VARCHAR(255) NOT NULL,
+    address             VARCHAR(255),
+    phone               VARCHAR(255),
+    email               VARCHAR(255),
+    is_active           BOOLEAN,
+    monthly_token_limit INTEGER
+);
+
+CREATE TABLE users (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    hotel_id   BIGINT       NOT NULL,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    first_name VARCHAR(255),
+    last_name  VARCHAR(255),
+    role       VARCHAR(255) NOT NULL,
+    is_active  BOOLEAN,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT ck_users_role CHECK (role IN ('SUPER_ADMIN', 'HOTEL_ADMIN', 'HOTEL_STAFF'))
+);
+
+CREATE TABLE room_types (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    hotel_id      BIGINT       NOT NULL,
+    name          VARCHAR(255) NOT NULL,
+    description   VARCHAR(255),
+    base_price    NUMERIC(38, 2),
+    max_occupancy INTEGER,
+    total_rooms   INTEGER,
+    is_active     BOOLEAN,
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6),
+    CONSTRAINT fk_room_types_hotel FOREIGN KEY (hotel_id) REFERENCES hotels (id)
+);
+
+CREATE TABLE bookings (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    hotel_id       BIGINT       NOT NULL,
+    guest_name     VARCHAR(255) NOT NULL,
+    guest_email    VARCHAR(255),
+    guest_phone    VARCHAR(255),
+    check_in_date  DATE         NOT NULL,
+    check_out_date DATE         NOT NULL,
+    room_number    VARCHAR(255),
+    total_amount   NUMERIC(38, 2),
+    status         VARCHAR(255) NOT NULL,
+    confirmed_at   TIMESTAMP(6),
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6),
+    version        BIGINT       NOT NULL,
+    CONSTRAINT fk_bookings_hotel FOREIGN KEY (hotel_id) REFERENCES hotels (id),
+    CONSTRAINT ck_bookings_status CHECK (status IN ('PENDING', 'CONFIRMED', 'CHECKED_IN', 'CHECKED_OUT', 'CANCELLED'))
+);
+
+CREATE TABLE bookings_archive (
+    id             BIGINT       NOT NULL PRIMARY KEY,
+    hotel_id       BIGINT       NOT NULL,
+    guest_name     VARCHAR(255) NOT NULL,
+    guest_email    VARCHAR(255),
+    guest_phone    VARCHAR(255),
+    check_in_date  DATE         NOT NULL,
+    check_out_date DATE         NOT NULL,
+    room_number    VARCHAR(255),
+    total_amount   NUMERIC(38, 2),
+    status         VARCHAR(255) NOT NULL,
+    confirmed_at   TIMESTAMP(6),
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6),
+    archived_at    TIMESTAMP(6) NOT NULL,
+    CONSTRAINT ck_bookings_archive_status CHECK (status IN ('PENDING', 'CONFIRMED', 'CHECKED_IN', 'CHECKED_OUT', 'CANCELLED'))
+);
+
+CREATE INDEX idx_bookings_archive_hotel_check_out ON bookings_archive (hotel_id, check_out_date);
+
+CREATE TABLE usage_records (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    hotel_id         BIGINT       NOT NULL,
+    session_id       VARCHAR(255) NOT NULL,
+    call_start_time  TIMESTAMP(6),
+    call_end_time    TIMESTAMP(6),
+    duration_seconds BIGINT,
+    input_tokens     INTEGER,
+    output_tokens    INTEGER,
+    total_tokens     INTEGER,
+    booking_attempts INTEGER,
+    status           VARCHAR(255) NOT NULL,
+    created_at       TIMESTAMP(6),
+    updated_at       TIMESTAMP(6),
+    version          BIGINT       NOT NULL,
+    CONSTRAINT uk_usage_records_session_id UNIQUE (session_id),
+    CONSTRAINT fk_usage_records_hotel FOREIGN KEY (hotel_id) REFERENCES hotels (id),
+    CONSTRAINT ck_usage_records_status CHECK (status IN ('ACTIVE', 'COMPLETED'))
+);
+
+CREATE TABLE idempotency_keys (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    scope           VARCHAR(32)   NOT NULL,
+    idempotency_key VARCHAR(255)  NOT NULL,
+    request_hash    VARCHAR(64)   NOT NULL,
+    response_status INTEGER       NOT NULL,
+    response_body   VARCHAR(4000) NOT NULL,
+    created_at      TIMESTAMP(6),
+    expires_at      TIMESTAMP(6)  NOT NULL,
+    CONSTRAINT uk_idempotency_scope_key UNIQUE (scope, idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_expires_at ON idempotency_keys (expires_at);
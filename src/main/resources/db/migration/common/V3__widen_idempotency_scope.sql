@@ -0,0 +1,2 @@
+-- Idempotency scopes now carry the caller's hotel id ("booking-create:<hotelId>")
+ALTER TABLE idempotency_keys ALTER COLUMN scope SET DATA TYPE VARCHAR(64);
@@ -0,0 +1,2 @@
+-- findActiveBookingsByHotelId has no callers; the index only added write cost on bookings
+DROP INDEX IF EXISTS idx_bookings_hotel_active_check_in;
@@ -0,0 +1,13 @@
+-- Same indexes as db/migration/postgresql/V2, minus what H2 lacks: partial indexes and INCLUDE columns.
+
+CREATE INDEX idx_bookings_room_overlap ON bookings (hotel_id, room_number, check_in_date, check_out_date);
+
+CREATE INDEX idx_bookings_hotel_active_check_in ON bookings (hotel_id, check_in_date);
+
+CREATE INDEX idx_bookings_hotel_created_at ON bookings (hotel_id, created_at);
+
+CREATE INDEX idx_bookings_finished_check_out ON bookings (check_out_date);
+
+CREATE INDEX idx_usage_records_hotel_call_start ON usage_records (hotel_id, call_start_time, total_tokens);
+
+CREATE INDEX idx_room_types_hotel_name ON room_types (hotel_id, name);
@@ -0,0 +1,27 @@
+-- Indexes matched to the BookingRepository / UsageRecordRepository / RoomTypeRepository queries.
+-- Partial indexes leave cancelled and finished bookings out, so they stay small as history grows.
+
+-- existsOverlappingBooking / countOverlappingBookings: equality on hotel and room, range on the dates
+CREATE INDEX idx_bookings_room_overlap
+    ON bookings (hotel_id, room_number, check_in_date, check_out_date)
+    WHERE status <> 'CANCELLED';
+
+-- findActiveBookingsByHotelId: filtered and ordered by the index
+CREATE INDEX idx_bookings_hotel_active_check_in
+    ON bookings (hotel_id, check_in_date)
+    WHERE status NOT IN ('CANCELLED', 'CHECKED_OUT');
+
+-- findViewsByHotelIdOrderByCreatedAtDesc: scanned backwards, no sort
+CREATE INDEX idx_bookings_hotel_created_at ON bookings (hotel_id, created_at);
+
+-- BookingArchiver.findArchivableIds
+CREATE INDEX idx_bookings_finished_check_out
+    ON bookings (check_out_date)
+    WHERE status IN ('CHECKED_OUT', 'CANCELLED');
+
+-- sumTotalTokensByHotelIdAndDateAfter (quota check): index-only with the summed column included
+CREATE INDEX idx_usage_records_hotel_call_start
+    ON usage_records (hotel_id, call_start_time) INCLUDE (total_tokens);
+
+-- findByHotelIdAndName / existsByHotelIdAndNameAndIsActiveTrue and the hotel metadata join
+CREATE INDEX idx_room_types_hotel_name ON room_types (hotel_id, name);
@@ -0,0 +1,123 @@
+package com.diginest.aireceptionist.controller;
+
+import com.diginest.aireceptionist.repository.BookingRepository;
+import com.diginest.aireceptionist.repository.RoomTypeRepository;
+import com.diginest.aireceptionist.repository.UsageRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.diginest.aireceptionist.entity.Booking.Status.CANCELLED;
+import static com.diginest.aireceptionist.entity.Booking.Status.CHECKED_OUT;
+
+/**
+ * Query plans of the hot repository queries on a perf-data dataset. Each plan runs the repository method,
+ * takes the SQL Hibernate generated for it (see {@link GeneratedSql}) and EXPLAINs that statement with the
+ * same values bound in placeholder order. Subclasses pick the database and assert on its plan format.
+ */
+abstract class AbstractQueryPlanIntegrationTest {
+
+    static final String STATEMENT_INSPECTOR =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                    + "com.diginest.aireceptionist.controller.GeneratedSql";
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UsageRecordRepository usageRecordRepository;
+
+    @Autowired
+    private RoomTypeRepository roomTypeRepository;
+
+    private Long hotelId;
+    private String roomNumber;
+
+    @BeforeEach
+    void setUpPlans() {
+        // Fresh selectivity statistics for the optimizer
+        jdbcTemplate.execute("ANALYZE");
+        Map<String, Object> room = jdbcTemplate.queryForMap(
+                "SELECT hotel_id, room_number FROM bookings ORDER BY id LIMIT 1");
+        hotelId = ((Number) room.get("hotel_id")).longValue();
+        roomNumber = (String) room.get("room_number");
+    }
+
+    /** BookingRepository.existsOverlappingBooking, on the create and modify paths. */
+    protected String overlapCheckPlan() {
+        LocalDate checkIn = LocalDate.now().plusDays(10);
+        LocalDate checkOut = checkIn.plusDays(3);
+        String sql = GeneratedSql.of("bookings",
+                () -> bookingRepository.existsOverlappingBooking(hotelId, roomNumber, checkIn, checkOut, null));
+        SqlParameterValue noExcludedId = new SqlParameterValue(Types.BIGINT, null);
+        return explain(sql, hotelId, roomNumber, checkIn, checkOut, noExcludedId, noExcludedId);
+    }
+
+    /** BookingRepository.findViewsByHotelIdOrderByCreatedAtDesc, behind GET /api/bookings. */
+    protected String hotelListingPlan() {
+        String sql = GeneratedSql.of("bookings", () -> bookingRepository.findViewsByHotelIdOrderByCreatedAtDesc(hotelId));
+        return explain(sql, hotelId);
+    }
+
+    /** UsageRecordRepository.sumTotalTokensByHotelIdAndDateAfter, the quota check. */
+    protected String quotaSumPlan() {
+        LocalDateTime startOfMonth = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+        String sql = GeneratedSql.of("usage_records",
+                () -> usageRecordRepository.sumTotalTokensByHotelIdAndDateAfter(hotelId, startOfMonth));
+        return explain(sql, hotelId, startOfMonth);
+    }
+
+    /** BookingRepository.findArchivableIds, as BookingArchiver calls it. */
+    protected String archiveScanPlan() {
+        LocalDate checkOutBefore = LocalDate.now().minusDays(90);
+        String sql = GeneratedSql.of("bookings",
+                () -> bookingRepository.findArchivableIds(EnumSet.of(CHECKED_OUT, CANCELLED), checkOutBefore, Limit.of(500)));
+        List<Object> args = new ArrayList<>(List.of(CHECKED_OUT.name(), CANCELLED.name(), checkOutBefore));
+        args.addAll(pagination(sql, 500));
+        return explain(sql, args.toArray());
+    }
+
+    /** RoomTypeRepository.findByHotelIdAndName; a fresh name so the query cache cannot answer it. */
+    protected String roomTypeByNamePlan() {
+        String name = "Plan check " + System.nanoTime();
+        String sql = GeneratedSql.of("room_types", () -> roomTypeRepository.findByHotelIdAndName(hotelId, name));
+        return explain(sql, hotelId, name);
+    }
+
+    protected long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    /** The offset (0) and row limit Hibernate binds for a {@link Limit}, in the order the dialect renders them. */
+    private static List<Object> pagination(String sql, int limit) {
+        String lower = sql.toLowerCase(Locale.ROOT);
+        int offset = lower.indexOf("offset ?");
+        int rows = Math.max(lower.indexOf("fetch first ?"), lower.indexOf("limit ?"));
+        if (offset < 0) {
+            return List.of(limit);
+        }
+        return offset < rows ? List.of(0, limit) : List.of(limit, 0);
+    }
+
+    private String explain(String sql, Object... args) {
+        long placeholders = sql.chars().filter(c -> c == '?').count();
+        if (placeholders != args.length) {
+            throw new AssertionError(args.length + " values for " + placeholders + " placeholders in " + sql);
+        }
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    }
+}
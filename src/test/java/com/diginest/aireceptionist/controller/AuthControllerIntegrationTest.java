@@ -2,7 +2,9 @@ package com.diginest.aireceptionist.controller;
 
 import com.diginest.aireceptionist.dto.*;
 import com.diginest.aireceptionist.entity.Hotel;
+import com.diginest.aireceptionist.repository.BookingRepository;
 import com.diginest.aireceptionist.repository.HotelRepository;
+import com.diginest.aireceptionist.repository.UsageRecordRepository;
 import com.diginest.aireceptionist.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,7 +18,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
-class AuthControllerIntegrationTest {
+public class AuthControllerIntegrationTest {
 
     @Autowired
     private TestRestTemplate restTemplate;
@@ -27,10 +29,18 @@ class AuthControllerIntegrationTest {
     @Autowired
     private HotelRepository hotelRepository;
 
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UsageRecordRepository usageRecordRepository;
+
     private Long hotelId;
 
     @BeforeEach
     void setUp() {
+        bookingRepository.deleteAll();
+        usageRecordRepository.deleteAll();
         userRepository.deleteAll();
         hotelRepository.deleteAll();
 
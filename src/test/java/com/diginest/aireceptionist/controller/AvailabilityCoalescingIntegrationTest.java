@@ -0,0 +1,192 @@
+package com.diginest.aireceptionist.controller;
+
+import com.diginest.aireceptionist.dto.*;
+import com.diginest.aireceptionist.entity.Hotel;
+import com.diginest.aireceptionist.repository.*;
+import com.diginest.aireceptionist.service.BookingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class AvailabilityCoalescingIntegrationTest {
+
+    // Stays below the HTTP client's per-route connection limit, so all callers are in flight at once
+    private static final int CALLERS = 4;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UsageRecordRepository usageRecordRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @SpyBean
+    private BookingService bookingService;
+
+    private Long hotelId;
+    private String authToken;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository.deleteAll();
+        usageRecordRepository.deleteAll();
+        userRepository.deleteAll();
+        hotelRepository.deleteAll();
+
+        Hotel hotel = new Hotel();
+        hotel.setName("Test Hotel");
+        hotel.setIsActive(true);
+        hotel = hotelRepository.save(hotel);
+        hotelId = hotel.getId();
+
+        authToken = getAuthToken();
+        reset(bookingService);
+    }
+
+    private String getAuthToken() {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setEmail("admin@test.com");
+        registerRequest.setPassword("Password123!");
+        registerRequest.setFirstName("Admin");
+        registerRequest.setLastName("Test");
+        registerRequest.setHotelId(hotelId);
+        restTemplate.postForEntity("/api/auth/register", registerRequest, UserResponse.class);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("admin@test.com");
+        loginRequest.setPassword("Password123!");
+        ResponseEntity<JwtResponse> response = restTemplate.postForEntity(
+                "/api/auth/login", loginRequest, JwtResponse.class);
+        return response.getBody().getToken();
+    }
+
+    private HttpEntity<AvailabilityCheckRequest> availabilityRequest(Long hotelId) {
+        AvailabilityCheckRequest request = new AvailabilityCheckRequest();
+        request.setHotelId(hotelId);
+        request.setRoomNumber("101");
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(3));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(authToken);
+        return new HttpEntity<>(request, headers);
+    }
+
+    private double lookups(boolean coalesced) {
+        return meterRegistry.counter("booking.availability.lookups", "coalesced", Boolean.toString(coalesced)).count();
+    }
+
+    private <T> List<ResponseEntity<T>> concurrentLookups(HttpEntity<AvailabilityCheckRequest> entity,
+                                                          Class<T> responseType) throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(bookingService).checkAvailability(any());
+
+        double coalescedBefore = lookups(true);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<ResponseEntity<T>>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(() -> restTemplate.exchange(
+                        "/api/bookings/check-availability", HttpMethod.POST, entity, responseType)));
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (lookups(true) - coalescedBefore < CALLERS - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            List<ResponseEntity<T>> responses = new ArrayList<>();
+            for (Future<ResponseEntity<T>> future : futures) {
+                responses.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return responses;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void checkAvailability_ConcurrentIdenticalLookups_ShareOneQuery() throws Exception {
+        double executedBefore = lookups(false);
+        double coalescedBefore = lookups(true);
+
+        List<ResponseEntity<AvailabilityResponse>> responses =
+                concurrentLookups(availabilityRequest(hotelId), AvailabilityResponse.class);
+
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody().isAvailable()).isTrue();
+        });
+        verify(bookingService, times(1)).checkAvailability(any());
+        assertThat(lookups(false) - executedBefore).isEqualTo(1);
+        assertThat(lookups(true) - coalescedBefore).isEqualTo(CALLERS - 1);
+        assertThat(meterRegistry.get("booking.availability.collapse.ratio").gauge().value()).isGreaterThan(0);
+    }
+
+    @Test
+    void checkAvailability_ConcurrentLookupsForMissingHotel_ShareTheError() throws Exception {
+        List<ResponseEntity<String>> responses = concurrentLookups(availabilityRequest(99999L), String.class);
+
+        assertThat(responses).allSatisfy(response ->
+                assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+        verify(bookingService, times(1)).checkAvailability(any());
+    }
+
+    @Test
+    void checkAvailability_AfterBookingCommitted_RunsFreshQuery() {
+        restTemplate.exchange("/api/bookings/check-availability", HttpMethod.POST,
+                availabilityRequest(hotelId), AvailabilityResponse.class);
+
+        BookingCreateRequest booking = new BookingCreateRequest();
+        booking.setHotelId(hotelId);
+        booking.setGuestName("Test Guest");
+        booking.setCheckInDate(LocalDate.now().plusDays(1));
+        booking.setCheckOutDate(LocalDate.now().plusDays(3));
+        booking.setRoomNumber("101");
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(authToken);
+        restTemplate.exchange("/api/bookings/create", HttpMethod.POST,
+                new HttpEntity<>(booking, headers), BookingResponse.class);
+
+        ResponseEntity<AvailabilityResponse> response = restTemplate.exchange(
+                "/api/bookings/check-availability", HttpMethod.POST,
+                availabilityRequest(hotelId), AvailabilityResponse.class);
+
+        assertThat(response.getBody().isAvailable()).isFalse();
+        verify(bookingService, times(2)).checkAvailability(any());
+    }
+}
@@ -0,0 +1,189 @@
+package com.diginest.aireceptionist.controller;
+
+import com.diginest.aireceptionist.dto.*;
+import com.diginest.aireceptionist.entity.ArchivedBooking;
+import com.diginest.aireceptionist.entity.Booking;
+import com.diginest.aireceptionist.entity.Hotel;
+import com.diginest.aireceptionist.repository.*;
+import com.diginest.aireceptionist.service.BookingArchiver;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs with a batch size of 2, so archiving the old bookings below takes several batches.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.booking-archive.batch-size=2",
+        "app.booking-archive.horizon-days=90"
+})
+@ActiveProfiles("test")
+public class BookingArchiveIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private BookingArchiver bookingArchiver;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ArchivedBookingRepository archivedBookingRepository;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UsageRecordRepository usageRecordRepository;
+
+    private Long hotelId;
+    private String authToken;
+
+    @BeforeEach
+    void setUp() {
+        archivedBookingRepository.deleteAll();
+        bookingRepository.deleteAll();
+        usageRecordRepository.deleteAll();
+        userRepository.deleteAll();
+        hotelRepository.deleteAll();
+
+        Hotel hotel = new Hotel();
+        hotel.setName("Test Hotel");
+        hotel.setIsActive(true);
+        hotel.setMonthlyTokenLimit(100000);
+        hotel = hotelRepository.save(hotel);
+        hotelId = hotel.getId();
+
+        authToken = getAuthToken();
+    }
+
+    @Test
+    void archive_MovesOnlyFinishedBookingsPastHorizon() {
+        Booking oldCheckedOut1 = save("Old Guest 1", 400, Booking.Status.CHECKED_OUT);
+        Booking oldCheckedOut2 = save("Old Guest 2", 300, Booking.Status.CHECKED_OUT);
+        Booking oldCheckedOut3 = save("Old Guest 3", 200, Booking.Status.CHECKED_OUT);
+        Booking oldCancelled = save("Old Cancelled", 120, Booking.Status.CANCELLED);
+        Booking recentCheckedOut = save("Recent Guest", 10, Booking.Status.CHECKED_OUT);
+        Booking upcoming = save("Upcoming Guest", -30, Booking.Status.CONFIRMED);
+        double moved = meterRegistry.get("booking.archive.moved").counter().count();
+
+        assertThat(bookingArchiver.archive()).isEqualTo(4);
+
+        assertThat(bookingRepository.findAll()).extracting(Booking::getId)
+                .containsExactlyInAnyOrder(recentCheckedOut.getId(), upcoming.getId());
+        assertThat(archivedBookingRepository.findAll()).extracting(ArchivedBooking::getId)
+                .containsExactlyInAnyOrder(oldCheckedOut1.getId(), oldCheckedOut2.getId(),
+                        oldCheckedOut3.getId(), oldCancelled.getId());
+        ArchivedBooking archived = archivedBookingRepository.findById(oldCancelled.getId()).orElseThrow();
+        assertThat(archived.getGuestName()).isEqualTo("Old Cancelled");
+        assertThat(archived.getStatus()).isEqualTo(Booking.Status.CANCELLED);
+        assertThat(archived.getCreatedAt()).isNotNull();
+        assertThat(archived.getArchivedAt()).isNotNull();
+        assertThat(meterRegistry.get("booking.archive.moved").counter().count() - moved).isEqualTo(4);
+
+        assertThat(bookingArchiver.archive()).isZero();
+    }
+
+    @Test
+    void archivedBookings_LeaveListing_AndAppearInHistory() {
+        save("Old Guest", 200, Booking.Status.CHECKED_OUT);
+        save("Older Guest", 300, Booking.Status.CANCELLED);
+        save("Upcoming Guest", -30, Booking.Status.CONFIRMED);
+        HttpEntity<Void> entity = new HttpEntity<>(createAuthHeaders());
+        String eTag = restTemplate.exchange("/api/bookings/hotel/" + hotelId, HttpMethod.GET, entity,
+                BookingResponse[].class).getHeaders().getETag();
+
+        bookingArchiver.archive();
+
+        ResponseEntity<BookingResponse[]> listing = restTemplate.exchange(
+                "/api/bookings/hotel/" + hotelId, HttpMethod.GET, entity, BookingResponse[].class);
+        assertThat(listing.getHeaders().getETag()).isNotEqualTo(eTag);
+        assertThat(Arrays.stream(listing.getBody()).map(BookingResponse::getGuestName))
+                .containsExactly("Upcoming Guest");
+
+        ResponseEntity<BookingResponse[]> history = restTemplate.exchange(
+                "/api/bookings/hotel/" + hotelId + "/history", HttpMethod.GET, entity, BookingResponse[].class);
+        assertThat(history.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(Arrays.stream(history.getBody()).map(BookingResponse::getGuestName))
+                .containsExactly("Old Guest", "Older Guest");
+        assertThat(history.getBody()[1].getStatus()).isEqualTo("CANCELLED");
+
+        ResponseEntity<BookingResponse[]> secondPage = restTemplate.exchange(
+                "/api/bookings/hotel/" + hotelId + "/history?page=1&size=1", HttpMethod.GET, entity,
+                BookingResponse[].class);
+        assertThat(Arrays.stream(secondPage.getBody()).map(BookingResponse::getGuestName))
+                .containsExactly("Older Guest");
+    }
+
+    @Test
+    void archivedBooking_CanNoLongerBeModified() {
+        Booking old = save("Old Guest", 200, Booking.Status.CHECKED_OUT);
+        bookingArchiver.archive();
+
+        BookingModifyRequest modifyRequest = new BookingModifyRequest();
+        modifyRequest.setGuestName("Rewritten");
+        ResponseEntity<String> response = restTemplate.exchange("/api/bookings/modify/" + old.getId(),
+                HttpMethod.PUT, new HttpEntity<>(modifyRequest, createAuthHeaders()), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(archivedBookingRepository.findById(old.getId()).orElseThrow().getGuestName())
+                .isEqualTo("Old Guest");
+    }
+
+    /**
+     * A two-night stay that ended {@code daysAgo} days ago (negative: in the future).
+     */
+    private Booking save(String guestName, int daysAgo, Booking.Status status) {
+        LocalDate checkOut = LocalDate.now().minusDays(daysAgo);
+        Booking booking = new Booking();
+        booking.setHotelId(hotelId);
+        booking.setGuestName(guestName);
+        booking.setCheckInDate(checkOut.minusDays(2));
+        booking.setCheckOutDate(checkOut);
+        booking.setRoomNumber("101");
+        booking.setStatus(status);
+        return bookingRepository.save(booking);
+    }
+
+    private String getAuthToken() {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setEmail("admin@test.com");
+        registerRequest.setPassword("Password123!");
+        registerRequest.setFirstName("Admin");
+        registerRequest.setLastName("Test");
+        registerRequest.setHotelId(hotelId);
+        restTemplate.postForEntity("/api/auth/register", registerRequest, UserResponse.class);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("admin@test.com");
+        loginRequest.setPassword("Password123!");
+        ResponseEntity<JwtResponse> response = restTemplate.postForEntity(
+                "/api/auth/login", loginRequest, JwtResponse.class);
+        return response.getBody().getToken();
+    }
+
+    private HttpHeaders createAuthHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(authToken);
+        return headers;
+    }
+}
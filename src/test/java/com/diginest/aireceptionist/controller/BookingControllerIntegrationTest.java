@@ -3,6 +3,7 @@ package com.diginest.aireceptionist.controller;
 import com.diginest.aireceptionist.dto.*;
 import com.diginest.aireceptionist.entity.*;
 import com.diginest.aireceptionist.repository.*;
+import com.diginest.aireceptionist.service.HotelBookingVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,12 +14,15 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
-class BookingControllerIntegrationTest {
+public class BookingControllerIntegrationTest {
 
     @Autowired
     private TestRestTemplate restTemplate;
@@ -32,12 +36,19 @@ class BookingControllerIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UsageRecordRepository usageRecordRepository;
+
+    @Autowired
+    private HotelBookingVersions hotelBookingVersions;
+
     private Long hotelId;
     private String authToken;
 
     @BeforeEach
     void setUp() {
         bookingRepository.deleteAll();
+        usageRecordRepository.deleteAll();
         userRepository.deleteAll();
         hotelRepository.deleteAll();
 
@@ -52,8 +63,12 @@ class BookingControllerIntegrationTest {
     }
 
     private String getAuthToken() {
+        return getAuthToken("admin@test.com", hotelId);
+    }
+
+    private String getAuthToken(String email, Long hotelId) {
         RegisterRequest registerRequest = new RegisterRequest();
-        registerRequest.setEmail("admin@test.com");
+        registerRequest.setEmail(email);
         registerRequest.setPassword("Password123!");
         registerRequest.setFirstName("Admin");
         registerRequest.setLastName("Test");
@@ -61,7 +76,7 @@ class BookingControllerIntegrationTest {
         restTemplate.postForEntity("/api/auth/register", registerRequest, UserResponse.class);
 
         LoginRequest loginRequest = new LoginRequest();
-        loginRequest.setEmail("admin@test.com");
+        loginRequest.setEmail(email);
         loginRequest.setPassword("Password123!");
         ResponseEntity<JwtResponse> response = restTemplate.postForEntity(
                 "/api/auth/login", loginRequest, JwtResponse.class);
@@ -97,6 +112,54 @@ class BookingControllerIntegrationTest {
         assertThat(response.getBody().isAvailable()).isTrue();
     }
 
+    @Test
+    void checkAvailability_CborRequested_ReturnsCbor() {
+        AvailabilityCheckRequest request = new AvailabilityCheckRequest();
+        request.setHotelId(hotelId);
+        request.setRoomNumber("101");
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(3));
+
+        HttpHeaders headers = createAuthHeaders();
+        headers.setContentType(MediaType.APPLICATION_CBOR);
+        headers.setAccept(List.of(MediaType.APPLICATION_CBOR));
+
+        ResponseEntity<AvailabilityResponse> response = restTemplate.exchange(
+                "/api/bookings/check-availability",
+                HttpMethod.POST,
+                new HttpEntity<>(request, headers),
+                AvailabilityResponse.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().isAvailable()).isTrue();
+        assertThat(response.getBody().getRoomNumber()).isEqualTo("101");
+    }
+
+    @Test
+    void checkAvailability_WildcardAccept_DefaultsToJson() {
+        AvailabilityCheckRequest request = new AvailabilityCheckRequest();
+        request.setHotelId(hotelId);
+        request.setRoomNumber("101");
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(3));
+
+        HttpHeaders headers = createAuthHeaders();
+        headers.setAccept(List.of(MediaType.ALL));
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                "/api/bookings/check-availability",
+                HttpMethod.POST,
+                new HttpEntity<>(request, headers),
+                String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+    }
+
     @Test
     void checkAvailability_RoomNotAvailable_ReturnsFalse() {
         BookingCreateRequest booking = new BookingCreateRequest();
@@ -159,6 +222,92 @@ class BookingControllerIntegrationTest {
         assertThat(response.getBody().getHotelId()).isEqualTo(hotelId);
     }
 
+    @Test
+    void createBooking_RetriedWithIdempotencyKey_ReplaysFirstResponse() {
+        BookingCreateRequest request = new BookingCreateRequest();
+        request.setHotelId(hotelId);
+        request.setGuestName("Retry Guest");
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(3));
+        request.setRoomNumber("202");
+        request.setTotalAmount(new BigDecimal("200.00"));
+
+        HttpHeaders headers = createAuthHeaders();
+        headers.set("Idempotency-Key", UUID.randomUUID().toString());
+        HttpEntity<BookingCreateRequest> entity = new HttpEntity<>(request, headers);
+
+        ResponseEntity<BookingResponse> first = restTemplate.exchange(
+                "/api/bookings/create", HttpMethod.POST, entity, BookingResponse.class);
+        ResponseEntity<BookingResponse> retry = restTemplate.exchange(
+                "/api/bookings/create", HttpMethod.POST, entity, BookingResponse.class);
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(first.getHeaders().containsKey("Idempotent-Replayed")).isFalse();
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(retry.getBody().getId()).isEqualTo(first.getBody().getId());
+        assertThat(bookingRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void createBooking_SameIdempotencyKeyFromAnotherHotel_IsNotReplayed() {
+        String idempotencyKey = UUID.randomUUID().toString();
+        HttpHeaders headers = createAuthHeaders();
+        headers.set("Idempotency-Key", idempotencyKey);
+        ResponseEntity<BookingResponse> first = restTemplate.exchange("/api/bookings/create", HttpMethod.POST,
+                new HttpEntity<>(bookingRequest(hotelId, "Hotel A Guest"), headers), BookingResponse.class);
+
+        Hotel otherHotel = new Hotel();
+        otherHotel.setName("Other Hotel");
+        otherHotel.setIsActive(true);
+        Long otherHotelId = hotelRepository.save(otherHotel).getId();
+        HttpHeaders otherHeaders = new HttpHeaders();
+        otherHeaders.setContentType(MediaType.APPLICATION_JSON);
+        otherHeaders.setBearerAuth(getAuthToken("other@test.com", otherHotelId));
+        otherHeaders.set("Idempotency-Key", idempotencyKey);
+        ResponseEntity<BookingResponse> other = restTemplate.exchange("/api/bookings/create", HttpMethod.POST,
+                new HttpEntity<>(bookingRequest(otherHotelId, "Hotel B Guest"), otherHeaders), BookingResponse.class);
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(other.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(other.getHeaders().containsKey("Idempotent-Replayed")).isFalse();
+        assertThat(other.getBody().getId()).isNotEqualTo(first.getBody().getId());
+        assertThat(other.getBody().getGuestName()).isEqualTo("Hotel B Guest");
+        assertThat(bookingRepository.count()).isEqualTo(2);
+    }
+
+    private static BookingCreateRequest bookingRequest(Long hotelId, String guestName) {
+        BookingCreateRequest request = new BookingCreateRequest();
+        request.setHotelId(hotelId);
+        request.setGuestName(guestName);
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(3));
+        request.setRoomNumber("205");
+        return request;
+    }
+
+    @Test
+    void createBooking_IdempotencyKeyReusedForDifferentRequest_ReturnsUnprocessableEntity() {
+        BookingCreateRequest request = new BookingCreateRequest();
+        request.setHotelId(hotelId);
+        request.setGuestName("Reuse Guest");
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(3));
+        request.setRoomNumber("203");
+
+        HttpHeaders headers = createAuthHeaders();
+        headers.set("Idempotency-Key", UUID.randomUUID().toString());
+        restTemplate.exchange("/api/bookings/create", HttpMethod.POST,
+                new HttpEntity<>(request, headers), BookingResponse.class);
+
+        request.setRoomNumber("204");
+        ResponseEntity<String> response = restTemplate.exchange(
+                "/api/bookings/create", HttpMethod.POST, new HttpEntity<>(request, headers), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(bookingRepository.count()).isEqualTo(1);
+    }
+
     @Test
     void createBooking_InvalidDates_ReturnsBadRequest() {
         BookingCreateRequest request = new BookingCreateRequest();
@@ -276,6 +425,79 @@ class BookingControllerIntegrationTest {
         assertThat(response.getBody().getGuestEmail()).isEqualTo("updated@email.com");
     }
 
+    @Test
+    void modifyBooking_DatesOverlappingOnlyItself_Succeeds() {
+        BookingCreateRequest createRequest = new BookingCreateRequest();
+        createRequest.setHotelId(hotelId);
+        createRequest.setGuestName("Extending Guest");
+        createRequest.setGuestEmail("extend@email.com");
+        createRequest.setCheckInDate(LocalDate.now().plusDays(1));
+        createRequest.setCheckOutDate(LocalDate.now().plusDays(3));
+        createRequest.setRoomNumber("402");
+        createRequest.setTotalAmount(new BigDecimal("300.00"));
+
+        HttpEntity<BookingCreateRequest> createEntity = new HttpEntity<>(createRequest, createAuthHeaders());
+        Long bookingId = restTemplate.exchange(
+                "/api/bookings/create", HttpMethod.POST, createEntity, BookingResponse.class).getBody().getId();
+
+        BookingModifyRequest modifyRequest = new BookingModifyRequest();
+        modifyRequest.setCheckOutDate(LocalDate.now().plusDays(5));
+
+        HttpEntity<BookingModifyRequest> modifyEntity = new HttpEntity<>(modifyRequest, createAuthHeaders());
+
+        ResponseEntity<BookingResponse> response = restTemplate.exchange(
+                "/api/bookings/modify/" + bookingId,
+                HttpMethod.PUT,
+                modifyEntity,
+                BookingResponse.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getCheckOutDate()).isEqualTo(LocalDate.now().plusDays(5));
+    }
+
+    @Test
+    void modifyBooking_DatesOverlappingAnotherBooking_ReturnsConflict() {
+        BookingCreateRequest request1 = new BookingCreateRequest();
+        request1.setHotelId(hotelId);
+        request1.setGuestName("Guest One");
+        request1.setGuestEmail("guest1@email.com");
+        request1.setCheckInDate(LocalDate.now().plusDays(1));
+        request1.setCheckOutDate(LocalDate.now().plusDays(3));
+        request1.setRoomNumber("403");
+        request1.setTotalAmount(new BigDecimal("300.00"));
+
+        HttpEntity<BookingCreateRequest> entity1 = new HttpEntity<>(request1, createAuthHeaders());
+        Long bookingId = restTemplate.exchange(
+                "/api/bookings/create", HttpMethod.POST, entity1, BookingResponse.class).getBody().getId();
+
+        BookingCreateRequest request2 = new BookingCreateRequest();
+        request2.setHotelId(hotelId);
+        request2.setGuestName("Guest Two");
+        request2.setGuestEmail("guest2@email.com");
+        request2.setCheckInDate(LocalDate.now().plusDays(4));
+        request2.setCheckOutDate(LocalDate.now().plusDays(6));
+        request2.setRoomNumber("403");
+        request2.setTotalAmount(new BigDecimal("300.00"));
+
+        HttpEntity<BookingCreateRequest> entity2 = new HttpEntity<>(request2, createAuthHeaders());
+        restTemplate.exchange("/api/bookings/create", HttpMethod.POST, entity2, BookingResponse.class);
+
+        BookingModifyRequest modifyRequest = new BookingModifyRequest();
+        modifyRequest.setCheckOutDate(LocalDate.now().plusDays(5));
+
+        HttpEntity<BookingModifyRequest> modifyEntity = new HttpEntity<>(modifyRequest, createAuthHeaders());
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                "/api/bookings/modify/" + bookingId,
+                HttpMethod.PUT,
+                modifyEntity,
+                String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
     @Test
     void modifyBooking_NotFound_ReturnsNotFound() {
         BookingModifyRequest modifyRequest = new BookingModifyRequest();
@@ -374,6 +596,179 @@ class BookingControllerIntegrationTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody()).hasSize(2);
+        BookingResponse guestB = Arrays.stream(response.getBody())
+                .filter(booking -> "Guest B".equals(booking.getGuestName()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(guestB.getRoomNumber()).isEqualTo("602");
+        assertThat(guestB.getTotalAmount()).isEqualByComparingTo("350.00");
+        assertThat(guestB.getStatus()).isEqualTo("CONFIRMED");
+        assertThat(guestB.getConfirmedAt()).isNotNull();
+        assertThat(guestB.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void getBookingsByHotel_Unchanged_ReturnsNotModified() {
+        HttpEntity<Void> entity = new HttpEntity<>(createAuthHeaders());
+
+        ResponseEntity<BookingResponse[]> first = restTemplate.exchange(
+                "/api/bookings/hotel/" + hotelId,
+                HttpMethod.GET,
+                entity,
+                BookingResponse[].class
+        );
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String eTag = first.getHeaders().getETag();
+        assertThat(eTag).isNotNull().doesNotStartWith("W/");
+
+        HttpHeaders conditionalHeaders = createAuthHeaders();
+        conditionalHeaders.setIfNoneMatch(eTag);
+
+        ResponseEntity<String> second = restTemplate.exchange(
+                "/api/bookings/hotel/" + hotelId,
+                HttpMethod.GET,
+                new HttpEntity<>(conditionalHeaders),
+                String.class
+        );
+
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(second.getHeaders().getETag()).isEqualTo(eTag);
+        assertThat(second.getBody()).isNull();
+    }
+
+    @Test
+    void getBookingsByHotel_PerRepresentation_ReturnsDistinctETags() {
+        ResponseEntity<BookingResponse[]> json = restTemplate.exchange(
+                "/api/bookings/hotel/" + hotelId,
+                HttpMethod.GET,
+                new HttpEntity<>(createAuthHeaders()),
+                BookingResponse[].class
+        );
+
+        HttpHeaders cborHeaders = createAuthHeaders();
+        cborHeaders.setAccept(List.of(MediaType.APPLICATION_CBOR));
+        ResponseEntity<BookingResponse[]> cbor = restTemplate.exchange(
+                "/api/bookings/hotel/" + hotelId,
+                HttpMethod.GET,
+                new HttpEntity<>(cborHeaders),
+                BookingResponse[].class
+        );
+
+        assertThat(cbor.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(cbor.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(cbor.getHeaders().getVary()).contains(HttpHeaders.ACCEPT);
+        assertThat(cbor.getHeaders().getETag()).isNotEqualTo(json.getHeaders().getETag());
+
+        cborHeaders.setIfNoneMatch(json.getHeaders().getETag());
+        ResponseEntity<BookingResponse[]> crossed = restTemplate.exchange(
+                "/api/bookings/hotel/" + hotelId,
+                HttpMethod.GET,
+                new HttpEntity<>(cborHeaders),
+                BookingResponse[].class
+        );
+
+        assertThat(crossed.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void getBookingsByHotel_WildcardWithCborAccept_ETagMatchesCborBody() {
+        HttpHeaders cborHeaders = createAuthHeaders();
+        cborHeaders.setAccept(List.of(MediaType.APPLICATION_CBOR));
+        String cborETag = restTemplate.exchange(
+                "/api/bookings/hotel/" + hotelId,
+                HttpMethod.GET,
+                new HttpEntity<>(cborHeaders),
+                BookingResponse[].class
+        ).getHeaders().getETag();
+
+        HttpHeaders mixedHeaders = createAuthHeaders();
+        mixedHeaders.set(HttpHeaders.ACCEPT, "*/*, application/cbor");
+        ResponseEntity<BookingResponse[]> mixed = restTemplate.exchange(
+                "/api/bookings/hotel/" + hotelId,
+                HttpMethod.GET,
+                new HttpEntity<>(mixedHeaders),
+                BookingResponse[].class
+        );
+
+        assertThat(mixed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(mixed.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(mixed.getHeaders().getETag()).isEqualTo(cborETag);
+
+        mixedHeaders.setIfNoneMatch(cborETag);
+        ResponseEntity<BookingResponse[]> notModified = restTemplate.exchange(
+                "/api/bookings/hotel/" + hotelId,
+                HttpMethod.GET,
+                new HttpEntity<>(mixedHeaders),
+                BookingResponse[].class
+        );
+
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    void getBookingsByHotel_AfterMutation_ReturnsNewETag() {
+        HttpEntity<Void> entity = new HttpEntity<>(createAuthHeaders());
+        String initialETag = restTemplate.exchange(
+                "/api/bookings/hotel/" + hotelId, HttpMethod.GET, entity, BookingResponse[].class)
+                .getHeaders().getETag();
+
+        BookingCreateRequest request = new BookingCreateRequest();
+        request.setHotelId(hotelId);
+        request.setGuestName("Guest ETag");
+        request.setGuestEmail("etag@email.com");
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(2));
+        request.setRoomNumber("801");
+        request.setTotalAmount(new BigDecimal("150.00"));
+        ResponseEntity<BookingResponse> created = restTemplate.exchange(
+                "/api/bookings/create", HttpMethod.POST, new HttpEntity<>(request, createAuthHeaders()), BookingResponse.class);
+
+        HttpHeaders conditionalHeaders = createAuthHeaders();
+        conditionalHeaders.setIfNoneMatch(initialETag);
+        ResponseEntity<BookingResponse[]> afterCreate = restTemplate.exchange(
+                "/api/bookings/hotel/" + hotelId,
+                HttpMethod.GET,
+                new HttpEntity<>(conditionalHeaders),
+                BookingResponse[].class
+        );
+
+        assertThat(afterCreate.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(afterCreate.getBody()).hasSize(1);
+        String createdETag = afterCreate.getHeaders().getETag();
+        assertThat(createdETag).isNotEqualTo(initialETag);
+
+        restTemplate.exchange("/api/bookings/cancel/" + created.getBody().getId(),
+                HttpMethod.DELETE, new HttpEntity<>(createAuthHeaders()), Void.class);
+
+        conditionalHeaders.setIfNoneMatch(createdETag);
+        ResponseEntity<BookingResponse[]> afterCancel = restTemplate.exchange(
+                "/api/bookings/hotel/" + hotelId,
+                HttpMethod.GET,
+                new HttpEntity<>(conditionalHeaders),
+                BookingResponse[].class
+        );
+
+        assertThat(afterCancel.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(afterCancel.getBody()[0].getStatus()).isEqualTo("CANCELLED");
+        assertThat(afterCancel.getHeaders().getETag()).isNotEqualTo(createdETag);
+    }
+
+    @Test
+    void bookingReads_HotelWithoutMutations_DoNotTrackVersion() {
+        int tracked = hotelBookingVersions.size();
+
+        restTemplate.exchange("/api/bookings/hotel/" + hotelId, HttpMethod.GET,
+                new HttpEntity<>(createAuthHeaders()), BookingResponse[].class);
+        AvailabilityCheckRequest request = new AvailabilityCheckRequest();
+        request.setHotelId(hotelId);
+        request.setRoomNumber("101");
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(3));
+        restTemplate.exchange("/api/bookings/check-availability", HttpMethod.POST,
+                new HttpEntity<>(request, createAuthHeaders()), AvailabilityResponse.class);
+
+        assertThat(hotelBookingVersions.size()).isEqualTo(tracked);
     }
 
     @Test
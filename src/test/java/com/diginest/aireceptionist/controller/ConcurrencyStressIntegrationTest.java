@@ -0,0 +1,272 @@
+package com.diginest.aireceptionist.controller;
+
+import com.diginest.aireceptionist.entity.Booking;
+import com.diginest.aireceptionist.entity.Hotel;
+import com.diginest.aireceptionist.entity.UsageRecord;
+import com.diginest.aireceptionist.repository.*;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires concurrent booking and token-usage requests at a small set of rooms and a tight quota, then checks
+ * the database: no two live bookings of a room overlap, and accepted tokens never exceed the monthly limit.
+ * Uses the JDK client, whose connection pool does not cap concurrent requests per host.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.rate-limit.enabled=false",
+        "logging.level.com.diginest=INFO",
+        "logging.level.org.springframework.security=INFO"
+})
+@ActiveProfiles("test")
+@Slf4j
+public class ConcurrencyStressIntegrationTest {
+
+    private static final int ROOMS = 3;
+    private static final int WINDOW_DAYS = 14;
+    private static final int TOKENS_PER_UPDATE = 100;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${stress.concurrency:32}")
+    private int concurrency;
+
+    @Value("${stress.booking-operations:300}")
+    private int bookingOperations;
+
+    @Value("${stress.usage-sessions:20}")
+    private int usageSessions;
+
+    @Value("${stress.updates-per-session:20}")
+    private int updatesPerSession;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UsageRecordRepository usageRecordRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    private Long hotelId;
+    private String authToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        bookingRepository.deleteAll();
+        usageRecordRepository.deleteAll();
+        userRepository.deleteAll();
+        hotelRepository.deleteAll();
+
+        Hotel hotel = new Hotel();
+        hotel.setName("Test Hotel");
+        hotel.setIsActive(true);
+        // Half of what the usage test asks for in total
+        hotel.setMonthlyTokenLimit(usageSessions * updatesPerSession * TOKENS_PER_UPDATE / 2);
+        hotel = hotelRepository.save(hotel);
+        hotelId = hotel.getId();
+
+        send("POST", "/api/auth/register", Map.of(
+                "email", "admin@test.com",
+                "password", "Password123!",
+                "firstName", "Admin",
+                "lastName", "Test",
+                "hotelId", hotelId));
+        HttpResponse<String> login = send("POST", "/api/auth/login",
+                Map.of("email", "admin@test.com", "password", "Password123!"));
+        authToken = objectMapper.readTree(login.body()).get("token").asText();
+    }
+
+    @Test
+    void concurrentCreateModifyCancel_NeverDoubleBooksARoom() throws Exception {
+        List<Long> bookingIds = new CopyOnWriteArrayList<>();
+        Map<Integer, AtomicInteger> statuses = new ConcurrentSkipListMap<>();
+        AtomicInteger next = new AtomicInteger();
+
+        long start = System.nanoTime();
+        runConcurrently(() -> {
+            while (next.getAndIncrement() < bookingOperations) {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int operation = random.nextInt(10);
+                HttpResponse<String> response;
+                if (operation < 5 || bookingIds.isEmpty()) {
+                    Map<String, Object> request = new HashMap<>(stay(random));
+                    request.put("hotelId", hotelId);
+                    request.put("guestName", "Stress Guest");
+                    request.put("guestEmail", "stress@example.com");
+                    response = send("POST", "/api/bookings/create", request);
+                    if (response.statusCode() == 201) {
+                        bookingIds.add(objectMapper.readTree(response.body()).get("id").asLong());
+                    }
+                } else if (operation < 8) {
+                    Long id = bookingIds.get(random.nextInt(bookingIds.size()));
+                    response = send("PUT", "/api/bookings/modify/" + id, stay(random));
+                } else {
+                    Long id = bookingIds.get(random.nextInt(bookingIds.size()));
+                    response = send("DELETE", "/api/bookings/cancel/" + id, null);
+                }
+                statuses.computeIfAbsent(response.statusCode(), status -> new AtomicInteger()).incrementAndGet();
+            }
+            return null;
+        });
+        report("booking operations", bookingOperations, start, statuses);
+
+        assertThat(statuses.keySet()).as("response statuses").isSubsetOf(200, 201, 204, 409);
+        assertThat(statuses.get(409)).as("conflicts").isNotNull();
+
+        Map<String, List<Booking>> liveByRoom = bookingRepository.findAll().stream()
+                .filter(booking -> booking.getStatus() != Booking.Status.CANCELLED)
+                .collect(Collectors.groupingBy(Booking::getRoomNumber));
+        liveByRoom.forEach((room, bookings) -> {
+            bookings.sort(Comparator.comparing(Booking::getCheckInDate));
+            for (int i = 1; i < bookings.size(); i++) {
+                Booking previous = bookings.get(i - 1);
+                Booking current = bookings.get(i);
+                assertThat(current.getCheckInDate())
+                        .as("room %s: booking %d overlaps booking %d", room, current.getId(), previous.getId())
+                        .isAfterOrEqualTo(previous.getCheckOutDate());
+            }
+        });
+    }
+
+    @Test
+    void concurrentTokenUpdates_NeverExceedMonthlyLimit() throws Exception {
+        List<String> sessionIds = new ArrayList<>();
+        for (int i = 0; i < usageSessions; i++) {
+            String sessionId = "stress-session-" + i;
+            send("POST", "/api/usage/start", Map.of("hotelId", hotelId, "sessionId", sessionId));
+            sessionIds.add(sessionId);
+        }
+        Map<Integer, AtomicInteger> statuses = new ConcurrentSkipListMap<>();
+        Queue<String> unclaimed = new ConcurrentLinkedQueue<>(sessionIds);
+
+        // One caller per session, so every request competes for the hotel quota but never for the same record
+        long start = System.nanoTime();
+        runConcurrently(() -> {
+            String sessionId;
+            while ((sessionId = unclaimed.poll()) != null) {
+                for (int i = 0; i < updatesPerSession; i++) {
+                    HttpResponse<String> response = send("POST", "/api/usage/update", Map.of(
+                            "sessionId", sessionId,
+                            "inputTokens", TOKENS_PER_UPDATE * 3 / 5,
+                            "outputTokens", TOKENS_PER_UPDATE * 2 / 5));
+                    statuses.computeIfAbsent(response.statusCode(), status -> new AtomicInteger()).incrementAndGet();
+                }
+            }
+            return null;
+        });
+        report("token updates", usageSessions * updatesPerSession, start, statuses);
+
+        int limit = hotelRepository.findById(hotelId).orElseThrow().getMonthlyTokenLimit();
+        int recorded = usageRecordRepository.findAll().stream().mapToInt(UsageRecord::getTotalTokens).sum();
+        int accepted = statuses.getOrDefault(200, new AtomicInteger()).get() * TOKENS_PER_UPDATE;
+
+        assertThat(statuses.keySet()).as("response statuses").isSubsetOf(200, 402);
+        assertThat(recorded).as("recorded tokens").isLessThanOrEqualTo(limit).isEqualTo(accepted);
+        assertThat(accepted).as("quota left unused").isEqualTo(limit);
+    }
+
+    @Test
+    void concurrentTokenUpdates_ToOneSession_LoseNoUpdates() throws Exception {
+        send("POST", "/api/usage/start", Map.of("hotelId", hotelId, "sessionId", "stress-shared-session"));
+        int updates = updatesPerSession * 4;
+        Map<Integer, AtomicInteger> statuses = new ConcurrentSkipListMap<>();
+        AtomicInteger next = new AtomicInteger();
+
+        // Every caller updates the same record; each waits for the lock and then reads the current copy
+        long start = System.nanoTime();
+        runConcurrently(() -> {
+            while (next.getAndIncrement() < updates) {
+                HttpResponse<String> response = send("POST", "/api/usage/update", Map.of(
+                        "sessionId", "stress-shared-session",
+                        "inputTokens", TOKENS_PER_UPDATE * 3 / 5,
+                        "outputTokens", TOKENS_PER_UPDATE * 2 / 5));
+                statuses.computeIfAbsent(response.statusCode(), status -> new AtomicInteger()).incrementAndGet();
+            }
+            return null;
+        });
+        report("same-session token updates", updates, start, statuses);
+
+        UsageRecord record = usageRecordRepository.findBySessionId("stress-shared-session").orElseThrow();
+        int accepted = statuses.getOrDefault(200, new AtomicInteger()).get();
+
+        assertThat(statuses.keySet()).as("response statuses").containsOnly(200);
+        assertThat(accepted).as("accepted updates").isEqualTo(updates);
+        assertThat(record.getTotalTokens()).as("recorded tokens").isEqualTo(accepted * TOKENS_PER_UPDATE);
+        assertThat(record.getInputTokens() + record.getOutputTokens()).isEqualTo(record.getTotalTokens());
+    }
+
+    private void runConcurrently(Callable<Void> caller) throws Exception {
+        List<Future<Void>> callers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                callers.add(executor.submit(caller));
+            }
+        }
+        for (Future<Void> result : callers) {
+            result.get();
+        }
+    }
+
+    private Map<String, Object> stay(ThreadLocalRandom random) {
+        LocalDate checkIn = LocalDate.now().plusDays(10 + random.nextInt(WINDOW_DAYS));
+        return Map.of(
+                "roomNumber", String.valueOf(101 + random.nextInt(ROOMS)),
+                "checkInDate", checkIn.toString(),
+                "checkOutDate", checkIn.plusDays(1 + random.nextInt(3)).toString());
+    }
+
+    private HttpResponse<String> send(String method, String path, Object body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (authToken != null) {
+            request.header("Authorization", "Bearer " + authToken);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void report(String label, int operations, long startNanos, Map<Integer, AtomicInteger> statuses) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        log.debug("Concurrency stress: {} {} in {} s = {} ops/s, statuses {}", operations, label,
+                String.format("%.2f", seconds), String.format("%.1f", operations / seconds), statuses);
+    }
+}
@@ -0,0 +1,205 @@
+package com.diginest.aireceptionist.controller;
+
+import com.diginest.aireceptionist.config.ConnectionLimitingDataSource;
+import com.diginest.aireceptionist.config.DatabaseBulkhead;
+import com.diginest.aireceptionist.dto.*;
+import com.diginest.aireceptionist.entity.Hotel;
+import com.diginest.aireceptionist.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.*;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.datasource.concurrency-limit.enabled=true",
+        "app.datasource.concurrency-limit.bulkheads.admin.max-permits=1",
+        "app.datasource.concurrency-limit.bulkheads.admin.acquire-timeout-ms=300",
+        "app.rate-limit.enabled=false"
+})
+@ActiveProfiles("test")
+public class DatabaseBulkheadIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private AdminWorkload adminWorkload;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UsageRecordRepository usageRecordRepository;
+
+    private ConnectionLimitingDataSource limiter;
+    private Long hotelId;
+    private String authToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        limiter = dataSource.unwrap(ConnectionLimitingDataSource.class);
+
+        bookingRepository.deleteAll();
+        usageRecordRepository.deleteAll();
+        userRepository.deleteAll();
+        hotelRepository.deleteAll();
+
+        Hotel hotel = new Hotel();
+        hotel.setName("Test Hotel");
+        hotel.setIsActive(true);
+        hotel.setMonthlyTokenLimit(100000);
+        hotel = hotelRepository.save(hotel);
+        hotelId = hotel.getId();
+
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setEmail("admin@test.com");
+        registerRequest.setPassword("Password123!");
+        registerRequest.setFirstName("Admin");
+        registerRequest.setLastName("Test");
+        registerRequest.setHotelId(hotelId);
+        restTemplate.postForEntity("/api/auth/register", registerRequest, UserResponse.class);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("admin@test.com");
+        loginRequest.setPassword("Password123!");
+        authToken = restTemplate.postForEntity("/api/auth/login", loginRequest, JwtResponse.class)
+                .getBody().getToken();
+    }
+
+    @Test
+    void eachWorkloadDrawsOnItsOwnBulkhead() {
+        long usage = acquisitions("usage");
+        long bookings = acquisitions("bookings");
+        long admin = acquisitions("admin");
+
+        assertThat(startSession("bulkhead-session-1").getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(acquisitions("usage")).isGreaterThan(usage);
+
+        AvailabilityCheckRequest request = new AvailabilityCheckRequest();
+        request.setHotelId(hotelId);
+        request.setRoomNumber("101");
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(3));
+        assertThat(restTemplate.exchange("/api/bookings/check-availability", HttpMethod.POST,
+                new HttpEntity<>(request, authHeaders()), AvailabilityResponse.class).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+        assertThat(acquisitions("bookings")).isGreaterThan(bookings);
+
+        assertThat(listBookings().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(acquisitions("admin")).isEqualTo(admin + 1);
+    }
+
+    @Test
+    void saturatedAdminBulkhead_ShedsListings_WithoutBlockingVoiceCalls() throws Exception {
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> hog = CompletableFuture.runAsync(() -> adminWorkload.holdConnection(held, release));
+        try {
+            assertThat(held.await(10, TimeUnit.SECONDS)).isTrue();
+
+            ResponseEntity<String> listing = listBookings();
+            assertThat(listing.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(listing.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+            assertThat(startSession("bulkhead-session-2").getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            UsageUpdateRequest update = new UsageUpdateRequest();
+            update.setSessionId("bulkhead-session-2");
+            update.setInputTokens(60);
+            update.setOutputTokens(40);
+            assertThat(restTemplate.exchange("/api/usage/update", HttpMethod.POST,
+                    new HttpEntity<>(update, authHeaders()), UsageResponse.class).getStatusCode())
+                    .isEqualTo(HttpStatus.OK);
+        } finally {
+            release.countDown();
+            hog.get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(meterRegistry.get("datasource.connection.limiter.timeouts").tag("bulkhead", "admin")
+                .functionCounter().count()).isPositive();
+        assertThat(meterRegistry.get("datasource.connection.limiter.timeouts").tag("bulkhead", "usage")
+                .functionCounter().count()).isZero();
+        assertThat(listBookings().getStatusCode()).as("recovers once released").isEqualTo(HttpStatus.OK);
+    }
+
+    private long acquisitions(String bulkhead) {
+        return limiter.getBulkhead(bulkhead).getAcquisitions();
+    }
+
+    private ResponseEntity<UsageResponse> startSession(String sessionId) {
+        UsageStartRequest request = new UsageStartRequest();
+        request.setHotelId(hotelId);
+        request.setSessionId(sessionId);
+        return restTemplate.exchange("/api/usage/start", HttpMethod.POST,
+                new HttpEntity<>(request, authHeaders()), UsageResponse.class);
+    }
+
+    private ResponseEntity<String> listBookings() {
+        return restTemplate.exchange("/api/bookings/hotel/" + hotelId, HttpMethod.GET,
+                new HttpEntity<>(authHeaders()), String.class);
+    }
+
+    private HttpHeaders authHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(authToken);
+        return headers;
+    }
+
+    /**
+     * Stands in for a long admin export, holding the admin bulkhead's only permit.
+     */
+    static class AdminWorkload {
+
+        private final DataSource dataSource;
+
+        AdminWorkload(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @DatabaseBulkhead("admin")
+        public void holdConnection(CountDownLatch held, CountDownLatch release) {
+            try (Connection ignored = dataSource.getConnection()) {
+                held.countDown();
+                release.await();
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class AdminWorkloadConfig {
+
+        @Bean
+        AdminWorkload adminWorkload(DataSource dataSource) {
+            return new AdminWorkload(dataSource);
+        }
+    }
+}
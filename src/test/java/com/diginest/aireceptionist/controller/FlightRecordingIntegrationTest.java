@@ -0,0 +1,219 @@
+package com.diginest.aireceptionist.controller;
+
+import com.diginest.aireceptionist.dto.*;
+import com.diginest.aireceptionist.entity.Hotel;
+import com.diginest.aireceptionist.entity.User;
+import com.diginest.aireceptionist.repository.*;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "app.jfr.enabled=true")
+@ActiveProfiles("test")
+public class FlightRecordingIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UsageRecordRepository usageRecordRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    private Long hotelId;
+    private String authToken;
+    private String superAdminToken;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository.deleteAll();
+        usageRecordRepository.deleteAll();
+        userRepository.deleteAll();
+        hotelRepository.deleteAll();
+
+        Hotel hotel = new Hotel();
+        hotel.setName("Test Hotel");
+        hotel.setIsActive(true);
+        hotel.setMonthlyTokenLimit(100);
+        hotel = hotelRepository.save(hotel);
+        hotelId = hotel.getId();
+
+        authToken = getAuthToken();
+        superAdminToken = getSuperAdminToken();
+    }
+
+    private String getAuthToken() {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setEmail("admin@test.com");
+        registerRequest.setPassword("Password123!");
+        registerRequest.setFirstName("Admin");
+        registerRequest.setLastName("Test");
+        registerRequest.setHotelId(hotelId);
+        restTemplate.postForEntity("/api/auth/register", registerRequest, UserResponse.class);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("admin@test.com");
+        loginRequest.setPassword("Password123!");
+        ResponseEntity<JwtResponse> response = restTemplate.postForEntity(
+                "/api/auth/login", loginRequest, JwtResponse.class);
+        return response.getBody().getToken();
+    }
+
+    private String getSuperAdminToken() {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setEmail("ops@test.com");
+        registerRequest.setPassword("Password123!");
+        registerRequest.setFirstName("Ops");
+        registerRequest.setLastName("Test");
+        registerRequest.setHotelId(hotelId);
+        restTemplate.postForEntity("/api/auth/register", registerRequest, UserResponse.class);
+
+        // Registration only creates hotel admins
+        User user = userRepository.findByEmail("ops@test.com").orElseThrow();
+        user.setRole(User.Role.SUPER_ADMIN);
+        userRepository.save(user);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("ops@test.com");
+        loginRequest.setPassword("Password123!");
+        ResponseEntity<JwtResponse> response = restTemplate.postForEntity(
+                "/api/auth/login", loginRequest, JwtResponse.class);
+        return response.getBody().getToken();
+    }
+
+    private HttpHeaders createAuthHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(authToken);
+        return headers;
+    }
+
+    private HttpHeaders superAdminHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(superAdminToken);
+        return headers;
+    }
+
+    private List<RecordedEvent> dumpEvents(String eventName) throws Exception {
+        ResponseEntity<byte[]> response = restTemplate.exchange("/actuator/jfr?seconds=300", HttpMethod.GET,
+                new HttpEntity<>(superAdminHeaders()), byte[].class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        Path file = Files.write(tempDir.resolve("dump.jfr"), response.getBody());
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .toList();
+    }
+
+    private ResponseEntity<String> createBooking() {
+        BookingCreateRequest request = new BookingCreateRequest();
+        request.setHotelId(hotelId);
+        request.setGuestName("Test Guest");
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(4));
+        request.setRoomNumber("101");
+        return restTemplate.exchange("/api/bookings/create", HttpMethod.POST,
+                new HttpEntity<>(request, createAuthHeaders()), String.class);
+    }
+
+    @Test
+    void dump_HotelAdminToken_ReturnsForbidden() {
+        ResponseEntity<byte[]> response = restTemplate.exchange("/actuator/jfr", HttpMethod.GET,
+                new HttpEntity<>(createAuthHeaders()), byte[].class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    void dump_StreamsRecordingAndRemovesTemporaryFile() throws Exception {
+        Path tmp = Path.of(System.getProperty("java.io.tmpdir"));
+        assertThat(dumpEvents("jdk.JVMInformation")).isNotEmpty();
+
+        try (var leftovers = Files.list(tmp)) {
+            assertThat(leftovers.map(path -> path.getFileName().toString()))
+                    .noneMatch(name -> name.startsWith("diginest-") && name.endsWith(".jfr"));
+        }
+    }
+
+    @Test
+    void checkAvailability_RecordsAvailabilityAndAuthenticationEvents() throws Exception {
+        AvailabilityCheckRequest request = new AvailabilityCheckRequest();
+        request.setHotelId(hotelId);
+        request.setRoomNumber("202");
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(3));
+        restTemplate.exchange("/api/bookings/check-availability", HttpMethod.POST,
+                new HttpEntity<>(request, createAuthHeaders()), AvailabilityResponse.class);
+
+        assertThat(dumpEvents("com.diginest.AvailabilityCheck")).anySatisfy(event -> {
+            assertThat(event.getLong("hotelId")).isEqualTo(hotelId);
+            assertThat(event.getString("roomNumber")).isEqualTo("202");
+            assertThat(event.getInt("nights")).isEqualTo(2);
+            assertThat(event.getBoolean("available")).isTrue();
+        });
+        assertThat(dumpEvents("com.diginest.JwtAuthentication")).anySatisfy(event -> {
+            assertThat(event.getBoolean("authenticated")).isTrue();
+            assertThat(event.getLong("hotelId")).isEqualTo(hotelId);
+        });
+    }
+
+    @Test
+    void createBooking_Conflict_RecordsConflictEvent() throws Exception {
+        createBooking();
+        assertThat(createBooking().getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+
+        assertThat(dumpEvents("com.diginest.BookingConflict")).anySatisfy(event -> {
+            assertThat(event.getString("operation")).isEqualTo("create");
+            assertThat(event.getLong("hotelId")).isEqualTo(hotelId);
+            assertThat(event.getInt("nights")).isEqualTo(3);
+            assertThat(event.getInt("conflictingBookings")).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void updateTokenUsage_OverQuota_RecordsRejectedQuotaCheck() throws Exception {
+        UsageStartRequest startRequest = new UsageStartRequest();
+        startRequest.setHotelId(hotelId);
+        startRequest.setSessionId("session-jfr");
+        restTemplate.exchange("/api/usage/start", HttpMethod.POST,
+                new HttpEntity<>(startRequest, createAuthHeaders()), UsageResponse.class);
+
+        UsageUpdateRequest updateRequest = new UsageUpdateRequest();
+        updateRequest.setSessionId("session-jfr");
+        updateRequest.setInputTokens(150);
+        updateRequest.setOutputTokens(50);
+        restTemplate.exchange("/api/usage/update", HttpMethod.POST,
+                new HttpEntity<>(updateRequest, createAuthHeaders()), String.class);
+
+        assertThat(dumpEvents("com.diginest.QuotaCheck")).anySatisfy(event -> {
+            assertThat(event.getLong("hotelId")).isEqualTo(hotelId);
+            assertThat(event.getLong("requestedTokens")).isEqualTo(200);
+            assertThat(event.getLong("limit")).isEqualTo(100);
+            assertThat(event.getBoolean("allowed")).isFalse();
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package com.diginest.aireceptionist.controller;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records the SQL Hibernate prepares, so the query plan tests EXPLAIN the statements the repositories
+ * actually send. Registered through {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ */
+public class GeneratedSql implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    /** The last statement on {@code table} that {@code call} made Hibernate prepare. */
+    static String of(String table, Runnable call) {
+        STATEMENTS.clear();
+        call.run();
+        String from = " " + table.toLowerCase(Locale.ROOT) + " ";
+        return STATEMENTS.stream()
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).contains(from))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("No statement on " + table + " in " + STATEMENTS));
+    }
+}
@@ -0,0 +1,105 @@
+package com.diginest.aireceptionist.controller;
+
+import com.diginest.aireceptionist.entity.Hotel;
+import com.diginest.aireceptionist.exception.ResourceNotFoundException;
+import com.diginest.aireceptionist.repository.*;
+import com.diginest.aireceptionist.service.HotelMetadataCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class HotelMetadataCacheIntegrationTest {
+
+    @Autowired
+    private HotelMetadataCache hotelMetadataCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private RoomTypeRepository roomTypeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UsageRecordRepository usageRecordRepository;
+
+    private Long hotelId;
+
+    @BeforeEach
+    void setUp() {
+        roomTypeRepository.deleteAll();
+        bookingRepository.deleteAll();
+        usageRecordRepository.deleteAll();
+        userRepository.deleteAll();
+        hotelRepository.deleteAll();
+
+        hotelId = hotelRepository.save(hotel("Test Hotel", 100000)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Other test classes share the database and do not clean up room types
+        roomTypeRepository.deleteAll();
+    }
+
+    @Test
+    void warmUp_CachesEveryHotel_SoLookupsHitMemory() {
+        Long otherHotelId = hotelRepository.save(hotel("Other Hotel", 5000)).getId();
+        hotelMetadataCache.warmUp();
+        double misses = lookups("miss");
+
+        assertThat(hotelMetadataCache.require(hotelId).monthlyTokenLimit()).isEqualTo(100000);
+        assertThat(hotelMetadataCache.require(otherHotelId).monthlyTokenLimit()).isEqualTo(5000);
+        assertThat(lookups("miss")).isEqualTo(misses);
+    }
+
+    @Test
+    void hotelUpdate_InvalidatesEntry() {
+        assertThat(hotelMetadataCache.require(hotelId).monthlyTokenLimit()).isEqualTo(100000);
+
+        Hotel hotel = hotelRepository.findById(hotelId).orElseThrow();
+        hotel.setMonthlyTokenLimit(250000);
+        hotelRepository.save(hotel);
+
+        assertThat(hotelMetadataCache.require(hotelId).monthlyTokenLimit()).isEqualTo(250000);
+    }
+
+    @Test
+    void deletedHotel_IsNoLongerFound() {
+        hotelMetadataCache.require(hotelId);
+
+        hotelRepository.deleteById(hotelId);
+
+        assertThatThrownBy(() -> hotelMetadataCache.require(hotelId))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("hotel.metadata.lookups").tag("result", result).counter().count();
+    }
+
+    private static Hotel hotel(String name, int monthlyTokenLimit) {
+        Hotel hotel = new Hotel();
+        hotel.setName(name);
+        hotel.setIsActive(true);
+        hotel.setMonthlyTokenLimit(monthlyTokenLimit);
+        return hotel;
+    }
+}
@@ -0,0 +1,204 @@
+package com.diginest.aireceptionist.controller;
+
+import com.diginest.aireceptionist.dto.*;
+import com.diginest.aireceptionist.entity.Hotel;
+import com.diginest.aireceptionist.entity.User;
+import com.diginest.aireceptionist.repository.*;
+import com.diginest.aireceptionist.service.HotelTrafficTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "app.hotel-metrics.top-k=1")
+@ActiveProfiles("test")
+public class HotelTrafficIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UsageRecordRepository usageRecordRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private HotelTrafficTracker hotelTrafficTracker;
+
+    private Long busyHotelId;
+    private Long quietHotelId;
+    private String busyToken;
+    private String quietToken;
+    private String superAdminToken;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository.deleteAll();
+        usageRecordRepository.deleteAll();
+        userRepository.deleteAll();
+        hotelRepository.deleteAll();
+
+        busyHotelId = createHotel("Busy Hotel");
+        quietHotelId = createHotel("Quiet Hotel");
+        busyToken = getAuthToken("busy@test.com", busyHotelId);
+        quietToken = getAuthToken("quiet@test.com", quietHotelId);
+        superAdminToken = getSuperAdminToken();
+    }
+
+    private Long createHotel(String name) {
+        Hotel hotel = new Hotel();
+        hotel.setName(name);
+        hotel.setIsActive(true);
+        return hotelRepository.save(hotel).getId();
+    }
+
+    private String getAuthToken(String email, Long hotelId) {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setEmail(email);
+        registerRequest.setPassword("Password123!");
+        registerRequest.setFirstName("Admin");
+        registerRequest.setLastName("Test");
+        registerRequest.setHotelId(hotelId);
+        restTemplate.postForEntity("/api/auth/register", registerRequest, UserResponse.class);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail(email);
+        loginRequest.setPassword("Password123!");
+        ResponseEntity<JwtResponse> response = restTemplate.postForEntity(
+                "/api/auth/login", loginRequest, JwtResponse.class);
+        return response.getBody().getToken();
+    }
+
+    private String getSuperAdminToken() {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setEmail("ops@test.com");
+        registerRequest.setPassword("Password123!");
+        registerRequest.setFirstName("Ops");
+        registerRequest.setLastName("Test");
+        registerRequest.setHotelId(quietHotelId);
+        restTemplate.postForEntity("/api/auth/register", registerRequest, UserResponse.class);
+
+        // Registration only creates hotel admins
+        User user = userRepository.findByEmail("ops@test.com").orElseThrow();
+        user.setRole(User.Role.SUPER_ADMIN);
+        userRepository.save(user);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("ops@test.com");
+        loginRequest.setPassword("Password123!");
+        ResponseEntity<JwtResponse> response = restTemplate.postForEntity(
+                "/api/auth/login", loginRequest, JwtResponse.class);
+        return response.getBody().getToken();
+    }
+
+    private HttpHeaders createAuthHeaders(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(token);
+        return headers;
+    }
+
+    private void checkAvailability(Long hotelId, String token, int times) {
+        AvailabilityCheckRequest request = new AvailabilityCheckRequest();
+        request.setHotelId(hotelId);
+        request.setRoomNumber("101");
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(3));
+        for (int i = 0; i < times; i++) {
+            ResponseEntity<AvailabilityResponse> response = restTemplate.exchange(
+                    "/api/bookings/check-availability", HttpMethod.POST,
+                    new HttpEntity<>(request, createAuthHeaders(token)), AvailabilityResponse.class);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        }
+    }
+
+    private Timer hotelTimer(String hotel) {
+        return meterRegistry.find("hotel.requests").tags("group", "availability", "hotel", hotel).timer();
+    }
+
+    private Counter rejections(String hotel) {
+        return meterRegistry.find("hotel.rate.limit.rejections").tags("group", "availability", "hotel", hotel).counter();
+    }
+
+    private HotelTrafficEntry entryFor(List<HotelTrafficEntry> entries, Long hotelId) {
+        return entries.stream().filter(entry -> entry.getHotelId().equals(hotelId)).findFirst().orElseThrow();
+    }
+
+    @Test
+    void hotelTraffic_ListsBusiestHotelsForGroup() {
+        checkAvailability(busyHotelId, busyToken, 3);
+        checkAvailability(quietHotelId, quietToken, 1);
+
+        ResponseEntity<HotelTrafficResponse> response = restTemplate.exchange(
+                "/actuator/hoteltraffic?group=availability&limit=50", HttpMethod.GET,
+                new HttpEntity<>(createAuthHeaders(superAdminToken)), HotelTrafficResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        HotelTrafficResponse traffic = response.getBody();
+        assertThat(traffic.getGroup()).isEqualTo("availability");
+        assertThat(traffic.getWindowSeconds()).isEqualTo(300);
+        assertThat(entryFor(traffic.getBusiest(), busyHotelId).getRequests()).isEqualTo(3);
+        assertThat(entryFor(traffic.getBusiest(), quietHotelId).getRequests()).isEqualTo(1);
+        assertThat(traffic.getBusiest().indexOf(entryFor(traffic.getBusiest(), busyHotelId)))
+                .isLessThan(traffic.getBusiest().indexOf(entryFor(traffic.getBusiest(), quietHotelId)));
+        assertThat(entryFor(traffic.getSlowest(), busyHotelId).getMeanLatencyMs()).isPositive();
+    }
+
+    @Test
+    void hotelMeters_BeyondTopK_FoldedIntoOther() {
+        // More requests than any hotel from other tests in this context, so this one ranks first
+        checkAvailability(busyHotelId, busyToken, 8);
+        checkAvailability(quietHotelId, quietToken, 1);
+        hotelTrafficTracker.refreshTopHotels();
+
+        double otherBefore = hotelTimer("other") == null ? 0 : hotelTimer("other").count();
+        double otherRejectionsBefore = rejections("other") == null ? 0 : rejections("other").count();
+        checkAvailability(busyHotelId, busyToken, 1);
+        checkAvailability(quietHotelId, quietToken, 1);
+        hotelTrafficTracker.recordRejection(busyHotelId, "availability");
+        hotelTrafficTracker.recordRejection(quietHotelId, "availability");
+
+        assertThat(hotelTimer(busyHotelId.toString())).isNotNull();
+        assertThat(hotelTimer(quietHotelId.toString())).isNull();
+        assertThat(hotelTimer("other").count() - otherBefore).isEqualTo(1);
+        assertThat(rejections(busyHotelId.toString()).count()).isEqualTo(1);
+        assertThat(rejections(quietHotelId.toString())).isNull();
+        assertThat(rejections("other").count() - otherRejectionsBefore).isEqualTo(1);
+    }
+
+    @Test
+    void hotelTraffic_HotelAdminToken_ReturnsForbidden() {
+        ResponseEntity<String> response = restTemplate.exchange("/actuator/hoteltraffic", HttpMethod.GET,
+                new HttpEntity<>(createAuthHeaders(busyToken)), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    void hotelTraffic_WithoutToken_ReturnsUnauthorized() {
+        ResponseEntity<String> response = restTemplate.getForEntity("/actuator/hoteltraffic", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+}
@@ -0,0 +1,186 @@
+package com.diginest.aireceptionist.controller;
+
+import com.diginest.aireceptionist.dto.*;
+import com.diginest.aireceptionist.entity.Hotel;
+import com.diginest.aireceptionist.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@AutoConfigureObservability(tracing = false)
+public class MetricsIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UsageRecordRepository usageRecordRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long hotelId;
+    private String authToken;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository.deleteAll();
+        usageRecordRepository.deleteAll();
+        userRepository.deleteAll();
+        hotelRepository.deleteAll();
+
+        Hotel hotel = new Hotel();
+        hotel.setName("Test Hotel");
+        hotel.setIsActive(true);
+        hotel.setMonthlyTokenLimit(100);
+        hotel = hotelRepository.save(hotel);
+        hotelId = hotel.getId();
+
+        authToken = getAuthToken();
+    }
+
+    private String getAuthToken() {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setEmail("admin@test.com");
+        registerRequest.setPassword("Password123!");
+        registerRequest.setFirstName("Admin");
+        registerRequest.setLastName("Test");
+        registerRequest.setHotelId(hotelId);
+        restTemplate.postForEntity("/api/auth/register", registerRequest, UserResponse.class);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("admin@test.com");
+        loginRequest.setPassword("Password123!");
+        ResponseEntity<JwtResponse> response = restTemplate.postForEntity(
+                "/api/auth/login", loginRequest, JwtResponse.class);
+        return response.getBody().getToken();
+    }
+
+    private HttpHeaders createAuthHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(authToken);
+        return headers;
+    }
+
+    private String scrape() {
+        return restTemplate.withBasicAuth("prometheus", "testScrapePassword")
+                .getForObject("/actuator/prometheus", String.class);
+    }
+
+    private double counter(String name, String... tags) {
+        var counter = meterRegistry.find(name).tags(tags).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private ResponseEntity<String> createBooking(String roomNumber) {
+        BookingCreateRequest request = new BookingCreateRequest();
+        request.setHotelId(hotelId);
+        request.setGuestName("Test Guest");
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(3));
+        request.setRoomNumber(roomNumber);
+        return restTemplate.exchange("/api/bookings/create", HttpMethod.POST,
+                new HttpEntity<>(request, createAuthHeaders()), String.class);
+    }
+
+    @Test
+    void prometheus_WithoutScrapeCredential_Unauthorized() {
+        ResponseEntity<String> anonymous = restTemplate.getForEntity("/actuator/prometheus", String.class);
+        ResponseEntity<String> wrongPassword = restTemplate.withBasicAuth("prometheus", "wrong")
+                .getForEntity("/actuator/prometheus", String.class);
+        ResponseEntity<String> userToken = restTemplate.exchange("/actuator/prometheus", HttpMethod.GET,
+                new HttpEntity<>(createAuthHeaders()), String.class);
+
+        assertThat(anonymous.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(anonymous.getHeaders().getFirst(HttpHeaders.WWW_AUTHENTICATE)).startsWith("Basic");
+        assertThat(wrongPassword.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(userToken.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    void prometheus_ScrapeCredential_ExposesServiceAndRepositoryHistograms() {
+        createBooking("101");
+
+        ResponseEntity<String> response = restTemplate.withBasicAuth("prometheus", "testScrapePassword")
+                .getForEntity("/actuator/prometheus", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody())
+                .contains("service_invocations_seconds_bucket{class=\"com.diginest.aireceptionist.service.BookingService\"")
+                .contains("method=\"createBooking\"")
+                .contains("method=\"authenticate\"")
+                .contains("spring_data_repository_invocations_seconds_bucket{")
+                .contains("repository=\"BookingRepository\"")
+                .contains("hikaricp_connections_acquire_seconds_bucket{")
+                .contains("datasource_connection_limiter_wait_seconds_count");
+    }
+
+    @Test
+    void prometheus_HotelRequests_PublishedAsBucketsWithSloBoundaries() {
+        createBooking("101");
+
+        String body = scrape();
+
+        assertThat(body).contains("hotel_requests_seconds_bucket{")
+                .containsPattern("hotel_requests_seconds_bucket\\{[^}]*le=\"0\\.25\"");
+        assertThat(body.lines().filter(line -> line.startsWith("hotel_requests_seconds{")))
+                .noneMatch(line -> line.contains("quantile="));
+    }
+
+    @Test
+    void createBooking_Conflict_IncrementsConflictCounter() {
+        createBooking("101");
+        double before = counter("booking.conflicts", "operation", "create");
+
+        ResponseEntity<String> response = createBooking("101");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(counter("booking.conflicts", "operation", "create") - before).isEqualTo(1);
+        assertThat(scrape())
+                .contains("booking_conflicts_total{operation=\"create\"");
+    }
+
+    @Test
+    void updateTokenUsage_OverQuota_IncrementsQuotaCounter() {
+        UsageStartRequest startRequest = new UsageStartRequest();
+        startRequest.setHotelId(hotelId);
+        startRequest.setSessionId("session-metrics");
+        restTemplate.exchange("/api/usage/start", HttpMethod.POST,
+                new HttpEntity<>(startRequest, createAuthHeaders()), UsageResponse.class);
+        double before = counter("usage.quota.exceeded");
+
+        UsageUpdateRequest updateRequest = new UsageUpdateRequest();
+        updateRequest.setSessionId("session-metrics");
+        updateRequest.setInputTokens(150);
+        updateRequest.setOutputTokens(50);
+        ResponseEntity<String> response = restTemplate.exchange("/api/usage/update", HttpMethod.POST,
+                new HttpEntity<>(updateRequest, createAuthHeaders()), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PAYMENT_REQUIRED);
+        assertThat(counter("usage.quota.exceeded") - before).isEqualTo(1);
+        assertThat(scrape())
+                .contains("usage_quota_exceeded_total");
+    }
+}
@@ -0,0 +1,194 @@
+package com.diginest.aireceptionist.controller;
+
+import com.diginest.aireceptionist.config.OptimisticRetry;
+import com.diginest.aireceptionist.entity.Booking;
+import com.diginest.aireceptionist.entity.Hotel;
+import com.diginest.aireceptionist.repository.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class OptimisticLockingIntegrationTest {
+
+    @Autowired
+    private ConflictingOperation conflictingOperation;
+
+    @Autowired
+    private NestedOperation nestedOperation;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UsageRecordRepository usageRecordRepository;
+
+    private Long hotelId;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository.deleteAll();
+        usageRecordRepository.deleteAll();
+        userRepository.deleteAll();
+        hotelRepository.deleteAll();
+
+        Hotel hotel = new Hotel();
+        hotel.setName("Test Hotel");
+        hotel.setIsActive(true);
+        hotel.setMonthlyTokenLimit(100000);
+        hotelId = hotelRepository.save(hotel).getId();
+        conflictingOperation.reset();
+    }
+
+    @Test
+    void staleBookingSave_IsRejected() {
+        Booking saved = bookingRepository.save(booking());
+        Booking first = bookingRepository.findById(saved.getId()).orElseThrow();
+        Booking second = bookingRepository.findById(saved.getId()).orElseThrow();
+
+        first.setGuestName("First Writer");
+        bookingRepository.save(first);
+        second.setGuestName("Second Writer");
+
+        assertThatThrownBy(() -> bookingRepository.save(second))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(bookingRepository.findById(saved.getId()).orElseThrow().getGuestName()).isEqualTo("First Writer");
+    }
+
+    @Test
+    void conflict_IsRetriedUntilAnAttemptSucceeds() {
+        double retried = conflicts("retried");
+
+        assertThat(conflictingOperation.failTimes(2)).isEqualTo(3);
+        assertThat(conflicts("retried") - retried).isEqualTo(2);
+    }
+
+    @Test
+    void persistentConflict_GivesUpAfterMaxAttempts() {
+        double exhausted = conflicts("exhausted");
+
+        assertThatThrownBy(() -> conflictingOperation.failTimes(10))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(conflictingOperation.attempts()).isEqualTo(4);
+        assertThat(conflicts("exhausted") - exhausted).isEqualTo(1);
+    }
+
+    @Test
+    void nestedAnnotatedCall_RetriesOnlyInOutermostCall() {
+        double exhausted = conflicts("exhausted");
+
+        assertThatThrownBy(() -> nestedOperation.callFailTimes(10))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(conflictingOperation.attempts()).isEqualTo(4);
+        assertThat(conflicts("exhausted") - exhausted).isZero();
+    }
+
+    @Test
+    void callJoiningATransaction_IsNotRetriedOnItsOwn() {
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> conflictingOperation.failTimes(1)))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(conflictingOperation.attempts()).isEqualTo(1);
+    }
+
+    private double conflicts(String outcome) {
+        Counter counter = meterRegistry.find("optimistic.lock.conflicts")
+                .tag("operation", "ConflictingOperation.failTimes")
+                .tag("outcome", outcome)
+                .counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private Booking booking() {
+        Booking booking = new Booking();
+        booking.setHotelId(hotelId);
+        booking.setGuestName("Guest");
+        booking.setCheckInDate(LocalDate.now().plusDays(1));
+        booking.setCheckOutDate(LocalDate.now().plusDays(2));
+        booking.setRoomNumber("101");
+        return booking;
+    }
+
+    @TestConfiguration
+    static class RetryConfig {
+
+        @Bean
+        ConflictingOperation conflictingOperation() {
+            return new ConflictingOperation();
+        }
+
+        @Bean
+        NestedOperation nestedOperation(ConflictingOperation conflictingOperation) {
+            return new NestedOperation(conflictingOperation);
+        }
+    }
+
+    /**
+     * An annotated caller of another annotated method, like UsageController.updateUsage over UsageService.
+     */
+    static class NestedOperation {
+
+        private final ConflictingOperation conflictingOperation;
+
+        NestedOperation(ConflictingOperation conflictingOperation) {
+            this.conflictingOperation = conflictingOperation;
+        }
+
+        @OptimisticRetry
+        public int callFailTimes(int failures) {
+            return conflictingOperation.failTimes(failures);
+        }
+    }
+
+    static class ConflictingOperation {
+
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        /**
+         * Loses the version race on the first {@code failures} attempts; returns the attempts made.
+         */
+        @OptimisticRetry
+        public int failTimes(int failures) {
+            int attempt = attempts.incrementAndGet();
+            if (attempt <= failures) {
+                throw new ObjectOptimisticLockingFailureException(Booking.class, 1L);
+            }
+            return attempt;
+        }
+
+        public int attempts() {
+            return attempts.get();
+        }
+
+        public void reset() {
+            attempts.set(0);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.diginest.aireceptionist.controller;
+
+import com.diginest.aireceptionist.config.PerfDataGenerator;
+import com.diginest.aireceptionist.dto.JwtResponse;
+import com.diginest.aireceptionist.dto.LoginRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        // Own database: the generated room types would otherwise block other tests' hotel cleanup
+        "spring.datasource.url=jdbc:h2:mem:perfdata;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.perf-data.hotels=3",
+        "app.perf-data.min-rooms-per-hotel=10",
+        "app.perf-data.max-rooms-per-hotel=25",
+        "app.perf-data.history-days=60",
+        "app.perf-data.future-days=30",
+        "app.perf-data.cancellation-rate=0.2",
+        "app.perf-data.usage-months=1",
+        "app.perf-data.calls-per-hotel-per-day=6",
+        "app.perf-data.threads=2",
+        "app.perf-data.batch-size=50"
+})
+@ActiveProfiles({"test", "perf-data"})
+public class PerfDataGeneratorIntegrationTest {
+
+    private static final String PERF_HOTELS = "(SELECT id FROM hotels WHERE name LIKE 'Perf Hotel %')";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PerfDataGenerator perfDataGenerator;
+
+    private List<Long> hotelIds;
+
+    @BeforeEach
+    void setUp() {
+        hotelIds = jdbcTemplate.queryForList("SELECT id FROM hotels WHERE name LIKE 'Perf Hotel %' ORDER BY id", Long.class);
+    }
+
+    @Test
+    void generatesHotelsWithRoomInventoriesAndAdmins() {
+        assertThat(hotelIds).hasSize(3);
+        assertThat(count("SELECT COUNT(*) FROM users WHERE hotel_id IN " + PERF_HOTELS)).isEqualTo(3);
+
+        for (Long hotelId : hotelIds) {
+            Long rooms = jdbcTemplate.queryForObject(
+                    "SELECT SUM(total_rooms) FROM room_types WHERE hotel_id = ?", Long.class, hotelId);
+            assertThat(rooms).isBetween(10L, 25L);
+            Long roomNumbers = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(DISTINCT room_number) FROM bookings WHERE hotel_id = ?", Long.class, hotelId);
+            assertThat(roomNumbers).isEqualTo(rooms);
+        }
+    }
+
+    @Test
+    void liveBookingsNeverOverlap_AndCancelledOnesDo() {
+        String overlaps = "SELECT COUNT(*) FROM bookings a JOIN bookings b "
+                + "ON a.hotel_id = b.hotel_id AND a.room_number = b.room_number AND a.id < b.id "
+                + "AND a.check_in_date < b.check_out_date AND b.check_in_date < a.check_out_date "
+                + "WHERE a.hotel_id IN " + PERF_HOTELS;
+
+        assertThat(count("SELECT COUNT(*) FROM bookings WHERE hotel_id IN " + PERF_HOTELS)).isGreaterThan(100);
+        assertThat(count(overlaps + " AND a.status <> 'CANCELLED' AND b.status <> 'CANCELLED'")).isZero();
+        assertThat(count(overlaps)).isPositive();
+    }
+
+    @Test
+    void bookingStatusesFollowTheCalendar() {
+        Date today = Date.valueOf(LocalDate.now());
+
+        assertThat(count("SELECT COUNT(*) FROM bookings WHERE hotel_id IN " + PERF_HOTELS
+                + " AND status NOT IN ('CHECKED_OUT', 'CANCELLED') AND check_out_date <= ?", today)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM bookings WHERE hotel_id IN " + PERF_HOTELS
+                + " AND status = 'CHECKED_OUT' AND check_out_date > ?", today)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM bookings WHERE hotel_id IN " + PERF_HOTELS
+                + " AND status IN ('CONFIRMED', 'PENDING') AND check_in_date > ?", today)).isPositive();
+    }
+
+    @Test
+    void generatesAMonthOfCompletedCalls() {
+        long records = count("SELECT COUNT(*) FROM usage_records WHERE hotel_id IN " + PERF_HOTELS);
+        // 3 hotels x about 30 days x 3-9 calls a day
+        assertThat(records).isBetween(3L * 28 * 3, 3L * 31 * 9);
+        assertThat(count("SELECT COUNT(*) FROM usage_records WHERE hotel_id IN " + PERF_HOTELS
+                + " AND (status <> 'COMPLETED' OR total_tokens <> input_tokens + output_tokens)")).isZero();
+    }
+
+    @Test
+    void generatedAdmin_CanLogIn() {
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("perf-admin-" + hotelIds.get(0) + "@diginest.test");
+        loginRequest.setPassword("PerfAdmin123!");
+
+        ResponseEntity<JwtResponse> response = restTemplate.postForEntity("/api/auth/login", loginRequest, JwtResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void rerun_IsSkippedWhenDatasetExists() throws Exception {
+        long bookings = count("SELECT COUNT(*) FROM bookings WHERE hotel_id IN " + PERF_HOTELS);
+
+        perfDataGenerator.run();
+
+        assertThat(count("SELECT COUNT(*) FROM hotels WHERE name LIKE 'Perf Hotel %'")).isEqualTo(3);
+        assertThat(count("SELECT COUNT(*) FROM bookings WHERE hotel_id IN " + PERF_HOTELS)).isEqualTo(bookings);
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}
@@ -0,0 +1,78 @@
+package com.diginest.aireceptionist.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostgreSQL plans of the Hibernate-generated hot queries against the V2 indexes, including the partial ones
+ * H2 cannot build. Runs the production dialect and the {@code db/migration/postgresql} scripts in a
+ * container; skipped where Docker is not available. The history ends just past the archive horizon, as it
+ * does between archiver runs, so few bookings qualify for the archive scan. room_types holds a few dozen rows
+ * here, too few for the planner to prefer an index, so its lookup is only checked on H2.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        AbstractQueryPlanIntegrationTest.STATEMENT_INSPECTOR,
+        "app.perf-data.hotels=10",
+        "app.perf-data.min-rooms-per-hotel=20",
+        "app.perf-data.max-rooms-per-hotel=40",
+        "app.perf-data.history-days=95",
+        "app.perf-data.future-days=90",
+        "app.perf-data.usage-months=2",
+        "app.perf-data.calls-per-hotel-per-day=20",
+        "app.perf-data.threads=2",
+        "app.perf-data.batch-size=500",
+        "app.booking-archive.enabled=false"
+})
+@ActiveProfiles({"test", "perf-data"})
+public class PostgresQueryPlanIntegrationTest extends AbstractQueryPlanIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+    }
+
+    @Test
+    void migrationsCreatedThePartialIndexes() {
+        assertThat(count("SELECT COUNT(*) FROM pg_indexes WHERE indexname IN "
+                + "('idx_bookings_room_overlap', 'idx_bookings_finished_check_out') AND indexdef LIKE '% WHERE %'"))
+                .isEqualTo(2);
+        assertThat(count("SELECT COUNT(*) FROM pg_indexes WHERE indexname = 'idx_bookings_hotel_active_check_in'"))
+                .isZero();
+    }
+
+    @Test
+    void overlapCheck_UsesPartialRoomOverlapIndex() {
+        assertThat(overlapCheckPlan()).contains("idx_bookings_room_overlap").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void hotelListing_UsesHotelCreatedAtIndex() {
+        assertThat(hotelListingPlan()).contains("idx_bookings_hotel_created_at").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void quotaSum_UsesCoveringHotelCallStartIndex() {
+        assertThat(quotaSumPlan()).contains("idx_usage_records_hotel_call_start").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void archiveScan_UsesPartialFinishedCheckOutIndex() {
+        assertThat(archiveScanPlan()).contains("idx_bookings_finished_check_out").doesNotContain("Seq Scan");
+    }
+}
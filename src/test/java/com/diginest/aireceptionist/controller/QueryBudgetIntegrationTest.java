@@ -0,0 +1,230 @@
+package com.diginest.aireceptionist.controller;
+
+import com.diginest.aireceptionist.config.SqlInstrumentationFilter;
+import com.diginest.aireceptionist.dto.*;
+import com.diginest.aireceptionist.entity.Hotel;
+import com.diginest.aireceptionist.repository.*;
+import com.diginest.aireceptionist.service.HotelMetadataCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQL statement budgets per endpoint, read from the {@code X-SQL-Statements} debug header. A budget counts
+ * the endpoint's own statements; on authenticated endpoints the JWT filter's user lookup is allowed on top
+ * ({@link #JWT_USER_LOOKUP}, pinned by the 304 listing, which runs nothing else). Availability and token
+ * update budgets are the targets set for them; the others hold each endpoint at its current cost. Lower a
+ * budget when an endpoint gets cheaper; raising one needs a reason in the commit that does it.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.sql-instrumentation.debug-headers=true",
+        "app.rate-limit.enabled=false"
+})
+@ActiveProfiles("test")
+public class QueryBudgetIntegrationTest {
+
+    private static final int JWT_USER_LOOKUP = 1;
+
+    private static final int REGISTER_BUDGET = 2;
+    private static final int LOGIN_BUDGET = 2;
+    private static final int CURRENT_USER_BUDGET = 1;
+    // Target; hotel validation is answered by the metadata cache here and on the listing and session start
+    private static final int CHECK_AVAILABILITY_BUDGET = 1;
+    private static final int CREATE_BOOKING_BUDGET = 3;
+    // Includes the hotel row lock taken when the dates change
+    private static final int MODIFY_BOOKING_BUDGET = 4;
+    private static final int CANCEL_BOOKING_BUDGET = 2;
+    private static final int HOTEL_BOOKINGS_BUDGET = 1;
+    // The ETag is answered without touching the bookings
+    private static final int HOTEL_BOOKINGS_NOT_MODIFIED_BUDGET = 0;
+    private static final int START_SESSION_BUDGET = 2;
+    // Target: the row lock, then the quota-checked update
+    private static final int UPDATE_USAGE_BUDGET = 2;
+    private static final int BOOKING_ATTEMPT_BUDGET = 2;
+    private static final int END_SESSION_BUDGET = 2;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UsageRecordRepository usageRecordRepository;
+
+    @Autowired
+    private HotelMetadataCache hotelMetadataCache;
+
+    private Long hotelId;
+    private String authToken;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository.deleteAll();
+        usageRecordRepository.deleteAll();
+        userRepository.deleteAll();
+        hotelRepository.deleteAll();
+
+        Hotel hotel = new Hotel();
+        hotel.setName("Test Hotel");
+        hotel.setIsActive(true);
+        hotel.setMonthlyTokenLimit(100000);
+        hotel = hotelRepository.save(hotel);
+        hotelId = hotel.getId();
+        // As for hotels that existed at startup
+        hotelMetadataCache.warmUp();
+
+        authToken = getAuthToken();
+    }
+
+    private String getAuthToken() {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setEmail("admin@test.com");
+        registerRequest.setPassword("Password123!");
+        registerRequest.setFirstName("Admin");
+        registerRequest.setLastName("Test");
+        registerRequest.setHotelId(hotelId);
+        assertWithinBudget(restTemplate.postForEntity("/api/auth/register", registerRequest, UserResponse.class),
+                REGISTER_BUDGET);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("admin@test.com");
+        loginRequest.setPassword("Password123!");
+        ResponseEntity<JwtResponse> response = restTemplate.postForEntity(
+                "/api/auth/login", loginRequest, JwtResponse.class);
+        assertWithinBudget(response, LOGIN_BUDGET);
+        return response.getBody().getToken();
+    }
+
+    private HttpHeaders createAuthHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(authToken);
+        return headers;
+    }
+
+    private static void assertWithinBudget(ResponseEntity<?> response, int budget) {
+        assertThat(statements(response)).as("SQL statements executed").isLessThanOrEqualTo(budget);
+    }
+
+    private static void assertAuthenticatedWithinBudget(ResponseEntity<?> response, int budget) {
+        assertThat(statements(response) - JWT_USER_LOOKUP)
+                .as("SQL statements executed besides the JWT user lookup")
+                .isLessThanOrEqualTo(budget);
+    }
+
+    private static int statements(ResponseEntity<?> response) {
+        assertThat(response.getStatusCode().is2xxSuccessful() || response.getStatusCode() == HttpStatus.NOT_MODIFIED)
+                .as("status %s", response.getStatusCode())
+                .isTrue();
+        String statements = response.getHeaders().getFirst(SqlInstrumentationFilter.STATEMENTS_HEADER);
+        assertThat(statements).as("%s header", SqlInstrumentationFilter.STATEMENTS_HEADER).isNotNull();
+        return Integer.parseInt(statements);
+    }
+
+    private BookingResponse createBooking(String roomNumber) {
+        BookingCreateRequest request = new BookingCreateRequest();
+        request.setHotelId(hotelId);
+        request.setGuestName("Test Guest");
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(3));
+        request.setRoomNumber(roomNumber);
+        ResponseEntity<BookingResponse> response = restTemplate.exchange("/api/bookings/create", HttpMethod.POST,
+                new HttpEntity<>(request, createAuthHeaders()), BookingResponse.class);
+        assertAuthenticatedWithinBudget(response, CREATE_BOOKING_BUDGET);
+        return response.getBody();
+    }
+
+    private void startSession(String sessionId) {
+        UsageStartRequest request = new UsageStartRequest();
+        request.setHotelId(hotelId);
+        request.setSessionId(sessionId);
+        assertAuthenticatedWithinBudget(restTemplate.exchange("/api/usage/start", HttpMethod.POST,
+                new HttpEntity<>(request, createAuthHeaders()), UsageResponse.class), START_SESSION_BUDGET);
+    }
+
+    @Test
+    void currentUser_WithinBudget() {
+        assertAuthenticatedWithinBudget(restTemplate.exchange("/api/auth/me", HttpMethod.GET,
+                new HttpEntity<>(createAuthHeaders()), UserResponse.class), CURRENT_USER_BUDGET);
+    }
+
+    @Test
+    void checkAvailability_WithinBudget() {
+        AvailabilityCheckRequest request = new AvailabilityCheckRequest();
+        request.setHotelId(hotelId);
+        request.setRoomNumber("101");
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(3));
+
+        assertAuthenticatedWithinBudget(restTemplate.exchange("/api/bookings/check-availability", HttpMethod.POST,
+                new HttpEntity<>(request, createAuthHeaders()), AvailabilityResponse.class), CHECK_AVAILABILITY_BUDGET);
+    }
+
+    @Test
+    void bookingLifecycle_WithinBudget() {
+        BookingResponse booking = createBooking("101");
+
+        BookingModifyRequest modifyRequest = new BookingModifyRequest();
+        modifyRequest.setCheckInDate(LocalDate.now().plusDays(2));
+        modifyRequest.setCheckOutDate(LocalDate.now().plusDays(4));
+        assertAuthenticatedWithinBudget(restTemplate.exchange("/api/bookings/modify/" + booking.getId(), HttpMethod.PUT,
+                new HttpEntity<>(modifyRequest, createAuthHeaders()), BookingResponse.class), MODIFY_BOOKING_BUDGET);
+
+        assertAuthenticatedWithinBudget(restTemplate.exchange("/api/bookings/cancel/" + booking.getId(),
+                HttpMethod.DELETE, new HttpEntity<>(createAuthHeaders()), Void.class), CANCEL_BOOKING_BUDGET);
+    }
+
+    @Test
+    void hotelBookings_DoesNotGrowWithBookingCount() {
+        for (int i = 0; i < 5; i++) {
+            createBooking("10" + i);
+        }
+
+        ResponseEntity<String> response = restTemplate.exchange("/api/bookings/hotel/" + hotelId, HttpMethod.GET,
+                new HttpEntity<>(createAuthHeaders()), String.class);
+        assertAuthenticatedWithinBudget(response, HOTEL_BOOKINGS_BUDGET);
+
+        HttpHeaders conditional = createAuthHeaders();
+        conditional.setIfNoneMatch(response.getHeaders().getETag());
+        ResponseEntity<String> notModified = restTemplate.exchange("/api/bookings/hotel/" + hotelId, HttpMethod.GET,
+                new HttpEntity<>(conditional), String.class);
+        assertAuthenticatedWithinBudget(notModified, HOTEL_BOOKINGS_NOT_MODIFIED_BUDGET);
+        // Nothing but the filter runs here, so this is what the JWT user lookup actually costs
+        assertThat(statements(notModified)).as("JWT user lookup").isEqualTo(JWT_USER_LOOKUP);
+    }
+
+    @Test
+    void usageSession_WithinBudget() {
+        startSession("session-budget");
+
+        UsageUpdateRequest updateRequest = new UsageUpdateRequest();
+        updateRequest.setSessionId("session-budget");
+        updateRequest.setInputTokens(100);
+        updateRequest.setOutputTokens(50);
+        assertAuthenticatedWithinBudget(restTemplate.exchange("/api/usage/update", HttpMethod.POST,
+                new HttpEntity<>(updateRequest, createAuthHeaders()), UsageResponse.class), UPDATE_USAGE_BUDGET);
+
+        assertAuthenticatedWithinBudget(restTemplate.exchange("/api/usage/booking-attempt?sessionId=session-budget",
+                HttpMethod.POST, new HttpEntity<>(createAuthHeaders()), UsageResponse.class), BOOKING_ATTEMPT_BUDGET);
+
+        UsageEndRequest endRequest = new UsageEndRequest();
+        endRequest.setSessionId("session-budget");
+        assertAuthenticatedWithinBudget(restTemplate.exchange("/api/usage/end", HttpMethod.POST,
+                new HttpEntity<>(endRequest, createAuthHeaders()), UsageResponse.class), END_SESSION_BUDGET);
+    }
+}
@@ -0,0 +1,134 @@
+package com.diginest.aireceptionist.controller;
+
+import com.diginest.aireceptionist.dto.*;
+import com.diginest.aireceptionist.entity.Hotel;
+import com.diginest.aireceptionist.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "app.rate-limit.groups[0].name=bookings",
+                "app.rate-limit.groups[0].path-patterns=/api/bookings/**",
+                "app.rate-limit.groups[0].capacity=3",
+                "app.rate-limit.groups[0].refill-per-second=0.01"
+        })
+@ActiveProfiles("test")
+public class RateLimitingIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UsageRecordRepository usageRecordRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long hotelId;
+    private String authToken;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository.deleteAll();
+        usageRecordRepository.deleteAll();
+        userRepository.deleteAll();
+        hotelRepository.deleteAll();
+
+        hotelId = createHotel();
+        authToken = getAuthToken("admin@test.com", hotelId);
+
+        // HttpClient 5 would otherwise sleep for Retry-After and transparently retry a 429
+        restTemplate.getRestTemplate().setRequestFactory(new HttpComponentsClientHttpRequestFactory(
+                HttpClients.custom().disableAutomaticRetries().build()));
+    }
+
+    private Long createHotel() {
+        Hotel hotel = new Hotel();
+        hotel.setName("Test Hotel");
+        hotel.setIsActive(true);
+        return hotelRepository.save(hotel).getId();
+    }
+
+    private String getAuthToken(String email, Long hotelId) {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setEmail(email);
+        registerRequest.setPassword("Password123!");
+        registerRequest.setFirstName("Admin");
+        registerRequest.setLastName("Test");
+        registerRequest.setHotelId(hotelId);
+        restTemplate.postForEntity("/api/auth/register", registerRequest, UserResponse.class);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail(email);
+        loginRequest.setPassword("Password123!");
+        ResponseEntity<JwtResponse> response = restTemplate.postForEntity(
+                "/api/auth/login", loginRequest, JwtResponse.class);
+        return response.getBody().getToken();
+    }
+
+    private ResponseEntity<String> listBookings(Long hotelId, String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return restTemplate.exchange(
+                "/api/bookings/hotel/" + hotelId, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+    @Test
+    void bookingRequests_OverHotelLimit_ReturnTooManyRequests() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(listBookings(hotelId, authToken).getStatusCode()).isEqualTo(HttpStatus.OK);
+        }
+
+        ResponseEntity<String> response = listBookings(hotelId, authToken);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(Long.parseLong(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER))).isPositive();
+        assertThat(response.getBody()).contains("Too Many Requests");
+        assertThat(meterRegistry.counter("hotel.rate.limit.rejections",
+                "group", "bookings", "hotel", hotelId.toString()).count()).isEqualTo(1);
+    }
+
+    @Test
+    void bookingRequests_OtherHotelThrottled_NotAffected() {
+        Long noisyHotelId = createHotel();
+        String noisyToken = getAuthToken("noisy@test.com", noisyHotelId);
+        for (int i = 0; i < 4; i++) {
+            listBookings(noisyHotelId, noisyToken);
+        }
+        assertThat(listBookings(noisyHotelId, noisyToken).getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+
+        assertThat(listBookings(hotelId, authToken).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void usageRequests_NoMatchingGroup_NotLimited() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(authToken);
+        for (int i = 0; i < 5; i++) {
+            ResponseEntity<String> response = restTemplate.exchange("/api/usage/booking-attempt?sessionId=missing",
+                    HttpMethod.POST, new HttpEntity<>(headers), String.class);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        }
+    }
+}
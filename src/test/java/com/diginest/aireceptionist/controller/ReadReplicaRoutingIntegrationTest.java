@@ -0,0 +1,199 @@
+package com.diginest.aireceptionist.controller;
+
+import com.diginest.aireceptionist.config.ReadReplicaRoutingDataSource;
+import com.diginest.aireceptionist.dto.*;
+import com.diginest.aireceptionist.entity.Booking;
+import com.diginest.aireceptionist.entity.Hotel;
+import com.diginest.aireceptionist.repository.*;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against two in-memory databases, a primary and a replica. Nothing replicates between them except
+ * {@link #replicate()}, so which one a request read from shows in what it returns.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:rrprimary;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.datasource.read-replicas.enabled=true",
+        "app.datasource.read-replicas.replicas[0].name=replica-1",
+        "app.datasource.read-replicas.replicas[0].url=jdbc:h2:mem:rrreplica;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.datasource.read-replicas.replicas[0].username=sa",
+        "app.datasource.read-replicas.replicas[0].connection-timeout-ms=250",
+        // Long enough that the window never lapses mid-test
+        "app.datasource.read-replicas.read-your-writes-window-ms=60000",
+        "app.datasource.read-replicas.health-check-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+public class ReadReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UsageRecordRepository usageRecordRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ReadReplicaRoutingDataSource routing;
+    private ReadReplicaRoutingDataSource.Replica replica;
+    private Long hotelId;
+    private String authToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        routing = dataSource.unwrap(ReadReplicaRoutingDataSource.class);
+        replica = routing.getReplicas().get(0);
+
+        bookingRepository.deleteAll();
+        usageRecordRepository.deleteAll();
+        userRepository.deleteAll();
+        hotelRepository.deleteAll();
+
+        Hotel hotel = new Hotel();
+        hotel.setName("Test Hotel");
+        hotel.setIsActive(true);
+        hotel.setMonthlyTokenLimit(100000);
+        hotel = hotelRepository.save(hotel);
+        hotelId = hotel.getId();
+
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setEmail("admin@test.com");
+        registerRequest.setPassword("Password123!");
+        registerRequest.setFirstName("Admin");
+        registerRequest.setLastName("Test");
+        registerRequest.setHotelId(hotelId);
+        restTemplate.postForEntity("/api/auth/register", registerRequest, UserResponse.class);
+
+        // Login looks the user up in a read-only transaction, so the replica needs it
+        replicate();
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("admin@test.com");
+        loginRequest.setPassword("Password123!");
+        authToken = restTemplate.postForEntity("/api/auth/login", loginRequest, JwtResponse.class)
+                .getBody().getToken();
+    }
+
+    @Test
+    void readOnlyRequests_ReadFromReplica() throws Exception {
+        saveBooking("101");
+        long replicaReads = replica.getReads();
+
+        assertThat(listBookings()).as("replica not caught up yet").isEmpty();
+        assertThat(replica.getReads()).isGreaterThan(replicaReads);
+
+        replicate();
+        assertThat(listBookings()).extracting(BookingResponse::getRoomNumber).containsExactly("101");
+    }
+
+    @Test
+    void writes_GoToPrimary_AndTheWritingHotelReadsItsOwnWrites() {
+        long primaryReads = routing.getPrimaryReads();
+
+        BookingCreateRequest request = new BookingCreateRequest();
+        request.setHotelId(hotelId);
+        request.setGuestName("John Doe");
+        request.setRoomNumber("102");
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(3));
+        ResponseEntity<BookingResponse> created = restTemplate.exchange("/api/bookings/create",
+                HttpMethod.POST, new HttpEntity<>(request, authHeaders()), BookingResponse.class);
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        assertThat(count(new JdbcTemplate(replica.getDataSource()))).as("replica bookings").isZero();
+        assertThat(count(new JdbcTemplate(dataSource))).as("primary bookings").isEqualTo(1);
+
+        // Inside the window the hotel's reads go to the primary, which has the booking the replica lacks
+        assertThat(listBookings()).extracting(BookingResponse::getRoomNumber).containsExactly("102");
+        assertThat(routing.getPrimaryReads()).isGreaterThan(primaryReads);
+    }
+
+    @Test
+    @DirtiesContext
+    void replicaDown_ReadsFailOverToPrimary() {
+        saveBooking("103");
+        ((HikariDataSource) replica.getDataSource()).close();
+
+        assertThat(listBookings()).extracting(BookingResponse::getRoomNumber).containsExactly("103");
+        assertThat(replica.isHealthy()).isFalse();
+        assertThat(replica.getFailures()).isPositive();
+        assertThat(meterRegistry.get("datasource.replica.healthy").tag("replica", "replica-1").gauge().value())
+                .isZero();
+
+        routing.checkReplicas();
+        assertThat(replica.isHealthy()).as("still down after a health check").isFalse();
+    }
+
+    private List<BookingResponse> listBookings() {
+        ResponseEntity<BookingResponse[]> response = restTemplate.exchange("/api/bookings/hotel/" + hotelId,
+                HttpMethod.GET, new HttpEntity<>(authHeaders()), BookingResponse[].class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return List.of(response.getBody());
+    }
+
+    private void saveBooking(String roomNumber) {
+        Booking booking = new Booking();
+        booking.setHotelId(hotelId);
+        booking.setGuestName("Jane Doe");
+        booking.setRoomNumber(roomNumber);
+        booking.setCheckInDate(LocalDate.now().plusDays(5));
+        booking.setCheckOutDate(LocalDate.now().plusDays(7));
+        bookingRepository.save(booking);
+    }
+
+    /**
+     * Copies the primary onto the replica wholesale.
+     */
+    private void replicate() throws Exception {
+        Path script = Files.createTempFile("replica", ".sql");
+        try {
+            new JdbcTemplate(dataSource).execute("SCRIPT TO '" + script + "'");
+            JdbcTemplate replicaJdbc = new JdbcTemplate(replica.getDataSource());
+            replicaJdbc.execute("DROP ALL OBJECTS");
+            replicaJdbc.execute("RUNSCRIPT FROM '" + script + "'");
+        } finally {
+            Files.deleteIfExists(script);
+        }
+    }
+
+    private static long count(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bookings", Long.class);
+    }
+
+    private HttpHeaders authHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(authToken);
+        return headers;
+    }
+}
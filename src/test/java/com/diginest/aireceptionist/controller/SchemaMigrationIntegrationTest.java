@@ -0,0 +1,76 @@
+package com.diginest.aireceptionist.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the migrated schema and the H2 plans of the Hibernate-generated hot queries, on a perf-data dataset
+ * (tens of thousands of bookings and calls) in its own database. H2 has no partial indexes and only skips a
+ * sort for indexes that start with the ORDER BY columns, so the hotel listing is only checked for an index
+ * lookup on the hotel; {@link PostgresQueryPlanIntegrationTest} covers the production plans.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:indexplans;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        AbstractQueryPlanIntegrationTest.STATEMENT_INSPECTOR,
+        "app.perf-data.hotels=10",
+        "app.perf-data.min-rooms-per-hotel=20",
+        "app.perf-data.max-rooms-per-hotel=40",
+        "app.perf-data.history-days=180",
+        "app.perf-data.future-days=90",
+        "app.perf-data.usage-months=2",
+        "app.perf-data.calls-per-hotel-per-day=20",
+        "app.perf-data.threads=2",
+        "app.perf-data.batch-size=500"
+})
+@ActiveProfiles({"test", "perf-data"})
+public class SchemaMigrationIntegrationTest extends AbstractQueryPlanIntegrationTest {
+
+    @Test
+    void migrationsOwnTheSchema() {
+        List<String> applied = jdbcTemplate.queryForList(
+                "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"success\" = TRUE AND \"version\" IS NOT NULL "
+                        + "ORDER BY \"installed_rank\"",
+                String.class);
+
+        assertThat(applied).containsExactly("1", "2", "3", "4");
+        assertThat(count("SELECT COUNT(*) FROM bookings")).isGreaterThan(10_000);
+        assertThat(count("SELECT COUNT(*) FROM usage_records")).isGreaterThan(10_000);
+    }
+
+    @Test
+    void unusedActiveListingIndex_IsDropped() {
+        assertThat(count("SELECT COUNT(*) FROM information_schema.indexes "
+                + "WHERE index_name = 'IDX_BOOKINGS_HOTEL_ACTIVE_CHECK_IN'")).isZero();
+    }
+
+    @Test
+    void overlapCheck_UsesRoomOverlapIndex() {
+        assertThat(overlapCheckPlan()).contains("IDX_BOOKINGS_ROOM_OVERLAP")
+                .contains("HOTEL_ID = ?1").contains("ROOM_NUMBER = ?2");
+    }
+
+    @Test
+    void hotelListing_IsAnIndexLookupOnHotel() {
+        assertThat(hotelListingPlan()).contains("HOTEL_ID = ?1 */").doesNotContain("tableScan");
+    }
+
+    @Test
+    void quotaSum_UsesCoveringHotelCallStartIndex() {
+        assertThat(quotaSumPlan()).contains("IDX_USAGE_RECORDS_HOTEL_CALL_START").contains("HOTEL_ID = ?1");
+    }
+
+    @Test
+    void archiveScan_UsesFinishedCheckOutIndex() {
+        assertThat(archiveScanPlan()).contains("IDX_BOOKINGS_FINISHED_CHECK_OUT");
+    }
+
+    @Test
+    void roomTypeByName_UsesHotelNameIndex() {
+        assertThat(roomTypeByNamePlan()).contains("IDX_ROOM_TYPES_HOTEL_NAME");
+    }
+}
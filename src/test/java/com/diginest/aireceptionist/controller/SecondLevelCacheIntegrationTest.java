@@ -0,0 +1,127 @@
+package com.diginest.aireceptionist.controller;
+
+import com.diginest.aireceptionist.entity.Hotel;
+import com.diginest.aireceptionist.entity.RoomType;
+import com.diginest.aireceptionist.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private RoomTypeRepository roomTypeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UsageRecordRepository usageRecordRepository;
+
+    private Statistics statistics;
+    private Long hotelId;
+
+    @BeforeEach
+    void setUp() {
+        roomTypeRepository.deleteAll();
+        bookingRepository.deleteAll();
+        usageRecordRepository.deleteAll();
+        userRepository.deleteAll();
+        hotelRepository.deleteAll();
+
+        Hotel hotel = new Hotel();
+        hotel.setName("Test Hotel");
+        hotel.setIsActive(true);
+        hotel.setMonthlyTokenLimit(100000);
+        hotelId = hotelRepository.save(hotel).getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Other test classes share the database and do not clean up room types
+        roomTypeRepository.deleteAll();
+    }
+
+    @Test
+    void hotelLookup_IsServedFromCache_WithoutSql() {
+        hotelRepository.findById(hotelId).orElseThrow();
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(hotelRepository.findById(hotelId).orElseThrow().getName()).isEqualTo("Test Hotel");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getDomainDataRegionStatistics("hotels").getHitCount()).isPositive();
+    }
+
+    @Test
+    void roomTypeByName_IsServedFromQueryCache_WithoutSql() {
+        roomTypeRepository.save(roomType("Standard", 12));
+
+        roomTypeRepository.findByHotelIdAndName(hotelId, "Standard").orElseThrow();
+        long statements = statistics.getPrepareStatementCount();
+
+        RoomType cached = roomTypeRepository.findByHotelIdAndName(hotelId, "Standard").orElseThrow();
+
+        assertThat(cached.getTotalRooms()).isEqualTo(12);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getQueryRegionStatistics("room-type-queries").getHitCount()).isPositive();
+    }
+
+    @Test
+    void roomTypeChange_InvalidatesCachedQueryResult() {
+        RoomType standard = roomTypeRepository.save(roomType("Standard", 12));
+        roomTypeRepository.findByHotelIdAndName(hotelId, "Standard").orElseThrow();
+
+        standard.setTotalRooms(20);
+        roomTypeRepository.save(standard);
+        roomTypeRepository.save(roomType("Suite", 3));
+
+        assertThat(roomTypeRepository.findByHotelIdAndName(hotelId, "Standard").orElseThrow().getTotalRooms())
+                .isEqualTo(20);
+        assertThat(roomTypeRepository.findByHotelIdAndName(hotelId, "Suite")).isPresent();
+    }
+
+    @Test
+    void regionStatistics_AreExposedAsMeters() {
+        hotelRepository.findById(hotelId).orElseThrow();
+        hotelRepository.findById(hotelId).orElseThrow();
+
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tag("region", "hotels").tag("result", "hit").functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("hibernate.cache.query.requests").functionCounters()).isNotEmpty();
+    }
+
+    private RoomType roomType(String name, int totalRooms) {
+        RoomType roomType = new RoomType();
+        roomType.setHotelId(hotelId);
+        roomType.setName(name);
+        roomType.setTotalRooms(totalRooms);
+        return roomType;
+    }
+}
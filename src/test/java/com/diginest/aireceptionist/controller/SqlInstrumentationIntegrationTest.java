@@ -0,0 +1,162 @@
+package com.diginest.aireceptionist.controller;
+
+import com.diginest.aireceptionist.config.SqlInstrumentationFilter;
+import com.diginest.aireceptionist.dto.*;
+import com.diginest.aireceptionist.entity.Hotel;
+import com.diginest.aireceptionist.repository.*;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.sql-instrumentation.debug-headers=true",
+        "app.sql-instrumentation.slow-query-threshold-ms=0"
+})
+@ActiveProfiles("test")
+@ExtendWith(OutputCaptureExtension.class)
+public class SqlInstrumentationIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UsageRecordRepository usageRecordRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long hotelId;
+    private String authToken;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository.deleteAll();
+        usageRecordRepository.deleteAll();
+        userRepository.deleteAll();
+        hotelRepository.deleteAll();
+
+        Hotel hotel = new Hotel();
+        hotel.setName("Test Hotel");
+        hotel.setIsActive(true);
+        hotel.setMonthlyTokenLimit(1000);
+        hotel = hotelRepository.save(hotel);
+        hotelId = hotel.getId();
+
+        authToken = getAuthToken();
+    }
+
+    private String getAuthToken() {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setEmail("admin@test.com");
+        registerRequest.setPassword("Password123!");
+        registerRequest.setFirstName("Admin");
+        registerRequest.setLastName("Test");
+        registerRequest.setHotelId(hotelId);
+        restTemplate.postForEntity("/api/auth/register", registerRequest, UserResponse.class);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("admin@test.com");
+        loginRequest.setPassword("Password123!");
+        ResponseEntity<JwtResponse> response = restTemplate.postForEntity(
+                "/api/auth/login", loginRequest, JwtResponse.class);
+        return response.getBody().getToken();
+    }
+
+    private HttpHeaders createAuthHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(authToken);
+        return headers;
+    }
+
+    private ResponseEntity<UsageResponse> startAndUpdateSession(String sessionId) {
+        UsageStartRequest startRequest = new UsageStartRequest();
+        startRequest.setHotelId(hotelId);
+        startRequest.setSessionId(sessionId);
+        restTemplate.exchange("/api/usage/start", HttpMethod.POST,
+                new HttpEntity<>(startRequest, createAuthHeaders()), UsageResponse.class);
+
+        UsageUpdateRequest updateRequest = new UsageUpdateRequest();
+        updateRequest.setSessionId(sessionId);
+        updateRequest.setInputTokens(100);
+        updateRequest.setOutputTokens(50);
+        return restTemplate.exchange("/api/usage/update", HttpMethod.POST,
+                new HttpEntity<>(updateRequest, createAuthHeaders()), UsageResponse.class);
+    }
+
+    @Test
+    void updateTokenUsage_DebugHeaders_ReportStatementsAndJdbcTime() {
+        ResponseEntity<UsageResponse> response = startAndUpdateSession("session-sql-headers");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getTotalTokens()).isEqualTo(150);
+        // JWT user lookup, usage row lock, conditional token update
+        assertThat(Integer.parseInt(response.getHeaders().getFirst(SqlInstrumentationFilter.STATEMENTS_HEADER)))
+                .isGreaterThanOrEqualTo(3);
+        assertThat(Double.parseDouble(response.getHeaders().getFirst(SqlInstrumentationFilter.JDBC_TIME_HEADER)))
+                .isPositive();
+
+        DistributionSummary statements = meterRegistry.find("http.server.requests.sql.statements")
+                .tag("uri", "/api/usage/update").summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.max()).isGreaterThanOrEqualTo(3);
+        assertThat(meterRegistry.find("http.server.requests.sql.time").tag("uri", "/api/usage/update").timer())
+                .isNotNull();
+    }
+
+    @Test
+    void updateTokenUsage_OverThreshold_LogsQueryWithBindParameters(CapturedOutput output) {
+        startAndUpdateSession("session-sql-slow-log");
+
+        assertThat(output.getOut())
+                .contains("Slow query (")
+                .contains("usage_records")
+                .contains("'session-sql-slow-log'");
+    }
+
+    @Test
+    void startSession_NullColumns_LoggedAsNullNotSqlTypeCode(CapturedOutput output) {
+        UsageStartRequest startRequest = new UsageStartRequest();
+        startRequest.setHotelId(hotelId);
+        startRequest.setSessionId("session-sql-null-bind");
+        restTemplate.exchange("/api/usage/start", HttpMethod.POST,
+                new HttpEntity<>(startRequest, createAuthHeaders()), UsageResponse.class);
+
+        // call_end_time and duration_seconds are still unset, so Hibernate binds them with setNull
+        String insert = output.getOut().lines()
+                .filter(line -> line.contains("Slow query (") && line.contains("insert into usage_records"))
+                .reduce((first, last) -> last)
+                .orElseThrow();
+        assertThat(insert)
+                .contains("'session-sql-null-bind'")
+                .containsPattern("\\d+=null");
+    }
+
+    @Test
+    void unauthenticatedRequest_DebugHeaders_ReportNoStatements() {
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/auth/me", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(response.getHeaders().getFirst(SqlInstrumentationFilter.STATEMENTS_HEADER)).isEqualTo("0");
+    }
+}
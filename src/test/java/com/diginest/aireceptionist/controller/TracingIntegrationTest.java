@@ -0,0 +1,252 @@
+package com.diginest.aireceptionist.controller;
+
+import com.diginest.aireceptionist.config.RecentSpanExporter;
+import com.diginest.aireceptionist.config.RecentSpanExporter.RecordedSpan;
+import com.diginest.aireceptionist.dto.*;
+import com.diginest.aireceptionist.entity.Hotel;
+import com.diginest.aireceptionist.entity.User;
+import com.diginest.aireceptionist.repository.*;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@AutoConfigureObservability
+public class TracingIntegrationTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String GATEWAY_SPAN_ID = "00f067aa0ba902b7";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UsageRecordRepository usageRecordRepository;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private RecentSpanExporter recentSpanExporter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long hotelId;
+    private String authToken;
+    private String superAdminToken;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository.deleteAll();
+        usageRecordRepository.deleteAll();
+        userRepository.deleteAll();
+        hotelRepository.deleteAll();
+
+        Hotel hotel = new Hotel();
+        hotel.setName("Test Hotel");
+        hotel.setIsActive(true);
+        hotel = hotelRepository.save(hotel);
+        hotelId = hotel.getId();
+
+        authToken = getAuthToken();
+        superAdminToken = getSuperAdminToken();
+        recentSpanExporter.clear();
+    }
+
+    private String getAuthToken() {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setEmail("admin@test.com");
+        registerRequest.setPassword("Password123!");
+        registerRequest.setFirstName("Admin");
+        registerRequest.setLastName("Test");
+        registerRequest.setHotelId(hotelId);
+        restTemplate.postForEntity("/api/auth/register", registerRequest, UserResponse.class);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("admin@test.com");
+        loginRequest.setPassword("Password123!");
+        ResponseEntity<JwtResponse> response = restTemplate.postForEntity(
+                "/api/auth/login", loginRequest, JwtResponse.class);
+        return response.getBody().getToken();
+    }
+
+    private String getSuperAdminToken() {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setEmail("ops@test.com");
+        registerRequest.setPassword("Password123!");
+        registerRequest.setFirstName("Ops");
+        registerRequest.setLastName("Test");
+        registerRequest.setHotelId(hotelId);
+        restTemplate.postForEntity("/api/auth/register", registerRequest, UserResponse.class);
+
+        // Registration only creates hotel admins
+        User user = userRepository.findByEmail("ops@test.com").orElseThrow();
+        user.setRole(User.Role.SUPER_ADMIN);
+        userRepository.save(user);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setEmail("ops@test.com");
+        loginRequest.setPassword("Password123!");
+        ResponseEntity<JwtResponse> response = restTemplate.postForEntity(
+                "/api/auth/login", loginRequest, JwtResponse.class);
+        return response.getBody().getToken();
+    }
+
+    private HttpHeaders createAuthHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(authToken);
+        return headers;
+    }
+
+    private HttpHeaders superAdminHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(superAdminToken);
+        return headers;
+    }
+
+    private ResponseEntity<BookingResponse> createBooking(HttpHeaders headers) {
+        BookingCreateRequest request = new BookingCreateRequest();
+        request.setHotelId(hotelId);
+        request.setGuestName("Test Guest");
+        request.setCheckInDate(LocalDate.now().plusDays(1));
+        request.setCheckOutDate(LocalDate.now().plusDays(3));
+        request.setRoomNumber("101");
+        // Not the TestRestTemplate: its client span would inject its own traceparent over the gateway's headers
+        RestTemplate gateway = new RestTemplateBuilder().rootUri("http://localhost:" + port).build();
+        return gateway.exchange("/api/bookings/create", HttpMethod.POST,
+                new HttpEntity<>(request, headers), BookingResponse.class);
+    }
+
+    private List<RecordedSpan> spans(String traceId) {
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        return recentSpanExporter.getSpans(traceId);
+    }
+
+    private static RecordedSpan named(List<RecordedSpan> spans, String name) {
+        return spans.stream().filter(span -> span.name().equals(name)).findFirst()
+                .orElseThrow(() -> new AssertionError("No span '" + name + "' in "
+                        + spans.stream().map(RecordedSpan::name).toList()));
+    }
+
+    @Test
+    void createBooking_GatewayTraceparent_ContinuesTraceDownToSql() {
+        HttpHeaders headers = createAuthHeaders();
+        headers.set("traceparent", "00-" + TRACE_ID + "-" + GATEWAY_SPAN_ID + "-01");
+
+        ResponseEntity<BookingResponse> response = createBooking(headers);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        List<RecordedSpan> spans = spans(TRACE_ID);
+        RecordedSpan http = named(spans, "http post /api/bookings/create");
+        assertThat(http.parentSpanId()).isEqualTo(GATEWAY_SPAN_ID);
+        assertThat(named(spans, "jwt.authentication").parentSpanId()).isNotNull();
+
+        RecordedSpan service = named(spans, "booking-service#create-booking");
+        assertThat(spans).anySatisfy(span -> {
+            assertThat(span.name()).isEqualTo("jdbc select");
+            assertThat(span.parentSpanId()).isEqualTo(service.spanId());
+            assertThat(span.attributes().get("db.statement")).contains("bookings");
+        });
+        assertThat(spans).anySatisfy(span -> {
+            assertThat(span.name()).isEqualTo("jdbc insert");
+            assertThat(span.parentSpanId()).isEqualTo(service.spanId());
+        });
+        assertThat(spans).anySatisfy(span -> assertThat(span.name()).isEqualTo("jdbc commit"));
+    }
+
+    @Test
+    void createBooking_Spans_CarryPlaceholdersNotBindValues() {
+        HttpHeaders headers = createAuthHeaders();
+        headers.set("traceparent", "00-" + TRACE_ID + "-" + GATEWAY_SPAN_ID + "-01");
+
+        createBooking(headers);
+
+        List<RecordedSpan> spans = spans(TRACE_ID);
+        assertThat(named(spans, "jdbc insert").attributes().get("db.statement")).contains("?");
+        assertThat(spans).allSatisfy(span -> assertThat(span.attributes().values())
+                .noneMatch(value -> value.contains("Test Guest")));
+    }
+
+    @Test
+    void plainStatement_SpanOmitsSqlWithInlineValues() {
+        jdbcTemplate.queryForObject("select count(*) from bookings where guest_name = 'Literal Guest'", Long.class);
+
+        List<RecordedSpan> spans = spans(null);
+        assertThat(spans).anySatisfy(span -> {
+            assertThat(span.name()).isEqualTo("jdbc select");
+            assertThat(span.attributes()).doesNotContainKey("db.statement");
+        });
+        assertThat(spans).allSatisfy(span -> assertThat(span.attributes().values())
+                .noneMatch(value -> value.contains("Literal Guest")));
+    }
+
+    @Test
+    void traces_HotelAdminToken_ReturnsForbidden() {
+        ResponseEntity<String> response = restTemplate.exchange("/actuator/traces", HttpMethod.GET,
+                new HttpEntity<>(createAuthHeaders()), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    void createBooking_B3Headers_ContinuesTrace() {
+        HttpHeaders headers = createAuthHeaders();
+        headers.set("X-B3-TraceId", TRACE_ID);
+        headers.set("X-B3-SpanId", GATEWAY_SPAN_ID);
+        headers.set("X-B3-Sampled", "1");
+
+        createBooking(headers);
+
+        assertThat(named(spans(TRACE_ID), "http post /api/bookings/create").parentSpanId())
+                .isEqualTo(GATEWAY_SPAN_ID);
+    }
+
+    @Test
+    void traces_Endpoint_ReturnsSpansOfTrace() {
+        HttpHeaders headers = createAuthHeaders();
+        headers.set("traceparent", "00-" + TRACE_ID + "-" + GATEWAY_SPAN_ID + "-01");
+        createBooking(headers);
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+
+        ResponseEntity<List<RecordedSpan>> response = restTemplate.exchange(
+                "/actuator/traces?traceId=" + TRACE_ID, HttpMethod.GET,
+                new HttpEntity<>(superAdminHeaders()), new ParameterizedTypeReference<>() {
+                });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotEmpty()
+                .allSatisfy(span -> assertThat(span.traceId()).isEqualTo(TRACE_ID));
+    }
+}
@@ -13,11 +13,14 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
+import java.util.List;
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
-class UsageControllerIntegrationTest {
+public class UsageControllerIntegrationTest {
 
     @Autowired
     private TestRestTemplate restTemplate;
@@ -31,12 +34,16 @@ class UsageControllerIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private BookingRepository bookingRepository;
+
     private Long hotelId;
     private String authToken;
 
     @BeforeEach
     void setUp() {
         usageRecordRepository.deleteAll();
+        bookingRepository.deleteAll();
         userRepository.deleteAll();
         hotelRepository.deleteAll();
 
@@ -163,6 +170,72 @@ class UsageControllerIntegrationTest {
         assertThat(response.getBody().getTotalTokens()).isEqualTo(150);
     }
 
+    @Test
+    void updateTokenUsage_CborRequested_ReturnsCbor() {
+        HttpHeaders headers = createAuthHeaders();
+        headers.setContentType(MediaType.APPLICATION_CBOR);
+        headers.setAccept(List.of(MediaType.APPLICATION_CBOR));
+
+        UsageStartRequest startRequest = new UsageStartRequest();
+        startRequest.setHotelId(hotelId);
+        startRequest.setSessionId("session-cbor");
+        restTemplate.exchange("/api/usage/start", HttpMethod.POST,
+                new HttpEntity<>(startRequest, headers), UsageResponse.class);
+
+        UsageUpdateRequest updateRequest = new UsageUpdateRequest();
+        updateRequest.setSessionId("session-cbor");
+        updateRequest.setInputTokens(100);
+        updateRequest.setOutputTokens(50);
+
+        ResponseEntity<UsageResponse> response = restTemplate.exchange(
+                "/api/usage/update",
+                HttpMethod.POST,
+                new HttpEntity<>(updateRequest, headers),
+                UsageResponse.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getSessionId()).isEqualTo("session-cbor");
+        assertThat(response.getBody().getTotalTokens()).isEqualTo(150);
+        assertThat(response.getBody().getCallStartTime()).isNotNull();
+    }
+
+    @Test
+    void updateTokenUsage_RetriedWithIdempotencyKey_CountsOnce() {
+        UsageStartRequest startRequest = new UsageStartRequest();
+        startRequest.setHotelId(hotelId);
+        startRequest.setSessionId("session-idempotent");
+        restTemplate.exchange("/api/usage/start", HttpMethod.POST,
+                new HttpEntity<>(startRequest, createAuthHeaders()), UsageResponse.class);
+
+        UsageUpdateRequest updateRequest = new UsageUpdateRequest();
+        updateRequest.setSessionId("session-idempotent");
+        updateRequest.setInputTokens(100);
+        updateRequest.setOutputTokens(50);
+
+        HttpHeaders headers = createAuthHeaders();
+        headers.set("Idempotency-Key", UUID.randomUUID().toString());
+        HttpEntity<UsageUpdateRequest> entity = new HttpEntity<>(updateRequest, headers);
+
+        restTemplate.exchange("/api/usage/update", HttpMethod.POST, entity, UsageResponse.class);
+        ResponseEntity<UsageResponse> retry = restTemplate.exchange(
+                "/api/usage/update", HttpMethod.POST, entity, UsageResponse.class);
+
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(retry.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(retry.getBody().getTotalTokens()).isEqualTo(150);
+        assertThat(usageRecordRepository.findBySessionId("session-idempotent").orElseThrow().getTotalTokens())
+                .isEqualTo(150);
+
+        ResponseEntity<UsageResponse> fresh = restTemplate.exchange(
+                "/api/usage/update", HttpMethod.POST,
+                new HttpEntity<>(updateRequest, createAuthHeaders()), UsageResponse.class);
+
+        assertThat(fresh.getBody().getTotalTokens()).isEqualTo(300);
+    }
+
     @Test
     void updateTokenUsage_MultipleUpdates_Accumulates() {
         UsageStartRequest startRequest = new UsageStartRequest();
@@ -171,7 +244,7 @@ class UsageControllerIntegrationTest {
         HttpEntity<UsageStartRequest> startEntity = new HttpEntity<>(startRequest, createAuthHeaders());
         restTemplate.exchange("/api/usage/start", HttpMethod.POST, startEntity, UsageResponse.class);
 
-        for (int i = 0; i < 3; i++) {
+        for (int i = 0; i < 2; i++) {
             UsageUpdateRequest updateRequest = new UsageUpdateRequest();
             updateRequest.setSessionId("session-accumulate");
             updateRequest.setInputTokens(50);
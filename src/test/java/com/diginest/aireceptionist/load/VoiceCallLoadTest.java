@@ -0,0 +1,324 @@
+package com.diginest.aireceptionist.load;
+
+import com.diginest.aireceptionist.entity.Hotel;
+import com.diginest.aireceptionist.repository.*;
+import com.diginest.aireceptionist.service.IdempotencyService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Voice-call load test: each simulated call logs in, starts a usage session, runs 10-40 token updates with
+ * a few availability checks in between, creates or modifies a booking and ends the session. Reports
+ * p50/p99/p999 per endpoint and sustained calls per second to stdout and {@code loadtest.report-dir}.
+ * Tagged {@code load}, so it only runs with {@code -Pload-test}; sizes come from {@code -Dloadtest.*}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.rate-limit.enabled=false",
+        "app.tracing.in-memory-exporter.enabled=false",
+        "logging.level.com.diginest=INFO",
+        "logging.level.org.springframework.security=INFO"
+})
+@ActiveProfiles("test")
+public class VoiceCallLoadTest {
+
+    private static final String PASSWORD = "Password123!";
+    private static final double MODIFY_RATIO = 0.3;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${loadtest.hotels:20}")
+    private int hotels;
+
+    @Value("${loadtest.rooms-per-hotel:30}")
+    private int roomsPerHotel;
+
+    @Value("${loadtest.concurrent-calls:50}")
+    private int concurrentCalls;
+
+    @Value("${loadtest.calls:2000}")
+    private int calls;
+
+    @Value("${loadtest.warmup-calls:200}")
+    private int warmupCalls;
+
+    @Value("${loadtest.seed:42}")
+    private long seed;
+
+    @Value("${loadtest.report-dir:target/load-test}")
+    private String reportDir;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UsageRecordRepository usageRecordRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final Map<String, EndpointStats> stats = new ConcurrentSkipListMap<>();
+    private List<Long> hotelIds;
+    private Map<Long, Queue<Long>> bookingsByHotel;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository.deleteAll();
+        usageRecordRepository.deleteAll();
+        userRepository.deleteAll();
+        hotelRepository.deleteAll();
+
+        List<Hotel> seeded = new ArrayList<>();
+        for (int i = 1; i <= hotels; i++) {
+            Hotel hotel = new Hotel();
+            hotel.setName("Load Hotel " + i);
+            hotel.setIsActive(true);
+            hotel.setMonthlyTokenLimit(1_000_000_000);
+            seeded.add(hotel);
+        }
+        hotelIds = hotelRepository.saveAll(seeded).stream().map(Hotel::getId).toList();
+
+        bookingsByHotel = new ConcurrentHashMap<>();
+        for (Long hotelId : hotelIds) {
+            bookingsByHotel.put(hotelId, new ConcurrentLinkedQueue<>());
+            send("register", post("/api/auth/register", null, Map.of(
+                    "email", email(hotelId),
+                    "password", PASSWORD,
+                    "firstName", "Front",
+                    "lastName", "Desk",
+                    "hotelId", hotelId)));
+        }
+    }
+
+    @Test
+    void voiceCallWorkload() throws Exception {
+        runCalls(warmupCalls, seed - 1);
+        stats.clear();
+
+        long start = System.nanoTime();
+        int completed = runCalls(calls, seed);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        String report = report(completed, seconds);
+        System.out.println(report);
+        Path dir = Path.of(reportDir);
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("voice-call-load.txt"), report);
+
+        assertThat(completed).isEqualTo(calls);
+        stats.forEach((endpoint, endpointStats) ->
+                assertThat(endpointStats.errors.sum()).as("errors on " + endpoint).isZero());
+    }
+
+    private int runCalls(int count, long runSeed) throws InterruptedException {
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrentCalls; i++) {
+                callers.submit(() -> {
+                    int call;
+                    while ((call = next.getAndIncrement()) < count) {
+                        if (voiceCall(new Random(runSeed * 31 + call))) {
+                            completed.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+        return completed.get();
+    }
+
+    /**
+     * @return whether the call ran to the end of its session
+     */
+    private boolean voiceCall(Random random) {
+        Long hotelId = hotelIds.get(random.nextInt(hotelIds.size()));
+        String sessionId = UUID.randomUUID().toString();
+
+        JsonNode login = send("login", post("/api/auth/login", null,
+                Map.of("email", email(hotelId), "password", PASSWORD)));
+        if (login == null) {
+            return false;
+        }
+        String token = login.get("token").asText();
+
+        if (send("usage-start", post("/api/usage/start", token,
+                Map.of("hotelId", hotelId, "sessionId", sessionId))) == null) {
+            return false;
+        }
+
+        int turns = 10 + random.nextInt(31);
+        int checks = 2 + random.nextInt(4);
+        Map<String, Object> stay = stay(random, hotelId);
+        for (int turn = 0; turn < turns; turn++) {
+            send("usage-update", post("/api/usage/update", token, Map.of(
+                    "sessionId", sessionId,
+                    "inputTokens", 150 + random.nextInt(450),
+                    "outputTokens", 50 + random.nextInt(250))));
+            // Availability checks land on evenly spread turns, each for a fresh room and stay
+            if (turn % (turns / checks) == 0 && turn / (turns / checks) < checks) {
+                stay = stay(random, hotelId);
+                send("availability", post("/api/bookings/check-availability", token, stay));
+            }
+        }
+
+        send("booking-attempt", post("/api/usage/booking-attempt?sessionId=" + sessionId, token, null));
+        Queue<Long> hotelBookings = bookingsByHotel.get(hotelId);
+        Long existing = random.nextDouble() < MODIFY_RATIO ? hotelBookings.poll() : null;
+        if (existing != null) {
+            Map<String, Object> modify = new HashMap<>(stay);
+            modify.remove("hotelId");
+            send("booking-modify", put("/api/bookings/modify/" + existing, token, modify));
+            hotelBookings.add(existing);
+        } else {
+            Map<String, Object> create = new HashMap<>(stay);
+            create.put("guestName", "Caller " + sessionId.substring(0, 8));
+            create.put("guestEmail", "caller-" + sessionId.substring(0, 8) + "@example.com");
+            create.put("guestPhone", "+1555" + (1_000_000 + random.nextInt(9_000_000)));
+            JsonNode created = send("booking-create", post("/api/bookings/create", token, create)
+                    .header(IdempotencyService.IDEMPOTENCY_KEY_HEADER, sessionId));
+            if (created != null) {
+                hotelBookings.add(created.get("id").asLong());
+            }
+        }
+
+        return send("usage-end", post("/api/usage/end", token, Map.of("sessionId", sessionId))) != null;
+    }
+
+    private Map<String, Object> stay(Random random, Long hotelId) {
+        LocalDate checkIn = LocalDate.now().plusDays(1 + random.nextInt(180));
+        return Map.of(
+                "hotelId", hotelId,
+                "roomNumber", String.valueOf(100 + random.nextInt(roomsPerHotel)),
+                "checkInDate", checkIn.toString(),
+                "checkOutDate", checkIn.plusDays(1 + random.nextInt(5)).toString());
+    }
+
+    /**
+     * Sends the request and records its latency under {@code endpoint}. A 409 is the expected outcome of
+     * booking a taken room and counts as a conflict; any other non-2xx counts as an error.
+     *
+     * @return the parsed body of a 2xx response with one, otherwise null
+     */
+    private JsonNode send(String endpoint, HttpRequest.Builder request) {
+        EndpointStats endpointStats = stats.computeIfAbsent(endpoint, name -> new EndpointStats());
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            endpointStats.latencyMicros.recordValue((System.nanoTime() - start) / 1_000);
+            int status = response.statusCode();
+            if (status == 409) {
+                endpointStats.conflicts.increment();
+                return null;
+            }
+            if (status / 100 != 2) {
+                endpointStats.errors.increment();
+                return null;
+            }
+            return response.body().isEmpty() ? objectMapper.createObjectNode() : objectMapper.readTree(response.body());
+        } catch (IOException ex) {
+            endpointStats.errors.increment();
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            endpointStats.errors.increment();
+            return null;
+        }
+    }
+
+    private HttpRequest.Builder post(String path, String token, Object body) {
+        return request(path, token).POST(body == null ? HttpRequest.BodyPublishers.noBody() : json(body));
+    }
+
+    private HttpRequest.Builder put(String path, String token, Object body) {
+        return request(path, token).PUT(json(body));
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json");
+        return token == null ? builder : builder.header("Authorization", "Bearer " + token);
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private String report(int completed, double seconds) {
+        StringBuilder report = new StringBuilder()
+                .append(String.format("Voice-call load: %d hotels, %d rooms each, %d concurrent calls%n",
+                        hotels, roomsPerHotel, concurrentCalls))
+                .append(String.format("%d/%d calls in %.1f s = %.1f calls/s%n%n", completed, calls, seconds, completed / seconds))
+                .append(String.format("%-16s %8s %9s %7s %9s %9s %9s %9s%n",
+                        "endpoint", "requests", "conflicts", "errors", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+        stats.forEach((endpoint, endpointStats) -> {
+            Histogram latency = endpointStats.latencyMicros;
+            report.append(String.format("%-16s %8d %9d %7d %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint,
+                    latency.getTotalCount(),
+                    endpointStats.conflicts.sum(),
+                    endpointStats.errors.sum(),
+                    latency.getValueAtPercentile(50) / 1_000.0,
+                    latency.getValueAtPercentile(99) / 1_000.0,
+                    latency.getValueAtPercentile(99.9) / 1_000.0,
+                    latency.getMaxValue() / 1_000.0));
+        });
+        return report.toString();
+    }
+
+    private static String email(Long hotelId) {
+        return "frontdesk-" + hotelId + "@loadtest.com";
+    }
+
+    private static final class EndpointStats {
+
+        // Microseconds at 3 significant digits; resizes to whatever the slowest request took
+        private final Histogram latencyMicros = new ConcurrentHistogram(3);
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+    }
+}